@@ -24,10 +24,12 @@ import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.UpdateOperations;
 import dev.morphia.query.UpdateOpsImpl;
+import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
 import org.bson.Document;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -160,6 +162,19 @@ public interface Datastore {
      */
     void ensureIndexes();
 
+    /**
+     * Ensures the indexes found during class mapping by creating only those each collection is missing.  The existing indexes of a
+     * collection are listed once, the missing ones are created with a single command and several collections are indexed in parallel.
+     *
+     * @param options the options to apply
+     * @return the indexes created and skipped on each collection
+     * @see Indexes
+     * @see Indexed
+     * @see Text
+     * @since 2.0
+     */
+    IndexReport ensureIndexes(EnsureIndexesOptions options);
+
     /**
      * Ensures (creating if necessary) the indexes found during class mapping
      *
@@ -304,6 +319,34 @@ public interface Datastore {
     @Deprecated
     <T> List<T> getByKeys(Iterable<Key<T>> keys);
 
+    /**
+     * Loads the entities for the given keys.  The keys are loaded in chunks with one {@code $in} query per collection in each chunk and
+     * several queries may run at once.  Entities are returned in the order of their keys and keys whose entities no longer exist are
+     * skipped.  A key repeated within one chunk returns its entity once but a key repeated in different chunks returns it once per
+     * chunk.
+     *
+     * @param keys    the keys to load
+     * @param options the options to apply
+     * @param <T>     the type to fetch
+     * @return the loaded entities
+     * @see #streamByKeys(Iterable, GetByKeysOptions)
+     * @since 2.0
+     */
+    <T> List<T> getByKeys(Iterable<Key<T>> keys, GetByKeysOptions options);
+
+    /**
+     * Loads the entities for the given keys as {@link #getByKeys(Iterable, GetByKeysOptions)} does but returns them as they are loaded
+     * rather than all at once.  The keys are only read as chunks are needed and at most {@link GetByKeysOptions#parallelism()} queries
+     * are run or held in memory ahead of the entities being consumed.  The cursor should be closed if it is not fully consumed.
+     *
+     * @param keys    the keys to load
+     * @param options the options to apply
+     * @param <T>     the type to fetch
+     * @return the cursor of loaded entities
+     * @since 2.0
+     */
+    <T> MorphiaCursor<T> streamByKeys(Iterable<Key<T>> keys, GetByKeysOptions options);
+
     /**
      * @return the MongoDatabase used by this DataStore
      * @morphia.internal
@@ -352,6 +395,18 @@ public interface Datastore {
      */
     <T> void refresh(T entity);
 
+    /**
+     * Refreshes existing entities to their current state in the database.  The entities are fetched in batches with one query per
+     * collection rather than one per entity.  Entities whose documents no longer exist are left unchanged.
+     *
+     * @param entities the entities to refresh
+     * @param <T>      the entity type
+     * @morphia.experimental
+     * @see #refresh(Object)
+     * @since 2.0
+     */
+    <T> void refresh(Collection<T> entities);
+
     /**
      * Returns the session this datastore is attached to or null if none is attached.
      *
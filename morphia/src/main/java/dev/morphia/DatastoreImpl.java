@@ -1,16 +1,29 @@
 package dev.morphia;
 
 import com.mongodb.ClientSessionOptions;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoCommandException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.MongoNamespace;
 import com.mongodb.MongoWriteException;
 import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import com.mongodb.client.ClientSession;
+import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
 import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.ValidationOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 import dev.morphia.aggregation.AggregationPipeline;
@@ -19,6 +32,7 @@ import dev.morphia.aggregation.experimental.Aggregation;
 import dev.morphia.aggregation.experimental.AggregationImpl;
 import dev.morphia.annotations.CappedAt;
 import dev.morphia.annotations.Validation;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.experimental.MorphiaSession;
 import dev.morphia.experimental.MorphiaSessionImpl;
 import dev.morphia.internal.SessionConfigurable;
@@ -27,24 +41,40 @@ import dev.morphia.mapping.MappedField;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.ChangeTracker;
+import dev.morphia.mapping.codec.pojo.ChangeTracker.EncodedEntity;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import dev.morphia.query.QueryFactory;
 import dev.morphia.query.UpdateException;
 import dev.morphia.query.ValidationException;
+import dev.morphia.query.internal.KeyBatchCursor;
+import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.sofia.Sofia;
 import dev.morphia.transactions.experimental.MorphiaTransaction;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWrapper;
+import org.bson.BsonInt64;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static java.util.Collections.singletonList;
 import static org.bson.Document.parse;
@@ -118,7 +148,6 @@ public class DatastoreImpl implements AdvancedDatastore {
         if (!entities.isEmpty()) {
             Class<?> type = entities.get(0).getClass();
             MappedClass mappedClass = mapper.getMappedClass(type);
-            final MongoCollection collection = mapper.getCollection(type);
             MappedField versionField = mappedClass.getVersionField();
             if (versionField != null) {
                 for (final T entity : entities) {
@@ -126,7 +155,7 @@ public class DatastoreImpl implements AdvancedDatastore {
                 }
             }
 
-            MongoCollection mongoCollection = options.apply(collection);
+            MongoCollection mongoCollection = mapper.getCollection(type, null, null, options.writeConcern());
             if (options.clientSession() == null) {
                 mongoCollection.insertMany(entities, options.getOptions());
             } else {
@@ -143,7 +172,7 @@ public class DatastoreImpl implements AdvancedDatastore {
 
     protected <T> void insert(final MongoCollection collection, final T entity, final InsertOneOptions options) {
         setInitialVersion(mapper.getMappedClass(entity.getClass()).getVersionField(), entity);
-        MongoCollection mongoCollection = mapper.enforceWriteConcern(collection, entity.getClass());
+        MongoCollection mongoCollection = configure(collection, mapper.getWriteConcern(entity.getClass()));
         ClientSession clientSession = findSession(options);
         if (clientSession == null) {
             mongoCollection.insertOne(entity, options.getOptions());
@@ -170,6 +199,14 @@ public class DatastoreImpl implements AdvancedDatastore {
                : getSession();
     }
 
+    /**
+     * @return the identity map holding the entities loaded through this datastore or null if loaded entities are not tracked
+     * @morphia.internal
+     */
+    public IdentityMap getIdentityMap() {
+        return null;
+    }
+
     @Override
     public <T> T withTransaction(final MorphiaTransaction<T> body) {
         return doTransaction(startSession(), body);
@@ -247,7 +284,10 @@ public class DatastoreImpl implements AdvancedDatastore {
 
     @Override
     public void ensureCaps() {
-        List<String> collectionNames = database.listCollectionNames().into(new ArrayList<>());
+        final Map<String, Document> collections = new HashMap<>();
+        for (final Document collection : database.listCollections()) {
+            collections.put(collection.getString("name"), collection);
+        }
         for (final MappedClass mc : mapper.getMappedClasses()) {
             if (mc.getEntityAnnotation() != null && mc.getEntityAnnotation().cap().value() > 0) {
                 final CappedAt cap = mc.getEntityAnnotation().cap();
@@ -261,10 +301,11 @@ public class DatastoreImpl implements AdvancedDatastore {
                     dbCapOpts.maxDocuments(cap.count());
                 }
                 final MongoDatabase database = getDatabase();
-                if (collectionNames.contains(collName)) {
-                    final Document dbResult = database.runCommand(new Document("collstats", collName));
-                    if (dbResult.getBoolean("capped")) {
-                        LOG.debug("MongoCollection already exists and is capped already; doing nothing. " + dbResult);
+                final Document existing = collections.get(collName);
+                if (existing != null) {
+                    final Document collectionOptions = (Document) existing.get("options");
+                    if (collectionOptions != null && Boolean.TRUE.equals(collectionOptions.get("capped"))) {
+                        LOG.debug("MongoCollection already exists and is capped already; doing nothing. " + existing);
                     } else {
                         LOG.warn("MongoCollection already exists with same name(" + collName
                                  + ") and is not capped; not creating capped version!");
@@ -297,6 +338,64 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
     }
 
+    @Override
+    @SuppressWarnings("rawtypes")
+    public IndexReport ensureIndexes(final EnsureIndexesOptions options) {
+        if (mapper.getMappedClasses().isEmpty()) {
+            Sofia.logNoMappedClasses();
+        }
+        final Map<MongoNamespace, MongoCollection> collections = new LinkedHashMap<>();
+        final Map<MongoNamespace, List<MappedClass>> classes = new LinkedHashMap<>();
+        for (final MappedClass mc : mapper.getMappedClasses()) {
+            if (mc.getEntityAnnotation() != null) {
+                final MongoCollection collection = mapper.getCollection(mc.getType());
+                collections.putIfAbsent(collection.getNamespace(), collection);
+                classes.computeIfAbsent(collection.getNamespace(), namespace -> new ArrayList<>())
+                       .add(mc);
+            }
+        }
+
+        final IndexHelper indexHelper = new IndexHelper(mapper);
+        final Map<MongoNamespace, List<IndexModel>> models = new LinkedHashMap<>();
+        for (final Entry<MongoNamespace, List<MappedClass>> entry : classes.entrySet()) {
+            models.put(entry.getKey(), indexHelper.collectIndexModels(entry.getValue()));
+        }
+
+        final IndexReport report = new IndexReport();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(options.parallelism(), models.size())));
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (final Entry<MongoNamespace, List<IndexModel>> entry : models.entrySet()) {
+                futures.add(executor.submit(() -> indexHelper.createMissingIndexes(collections.get(entry.getKey()), entry.getValue(),
+                    report)));
+            }
+            RuntimeException failure = null;
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    final RuntimeException cause = e.getCause() instanceof RuntimeException
+                                                   ? (RuntimeException) e.getCause()
+                                                   : new MappingException(e.getCause().getMessage(), e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MongoInterruptedException(e.getMessage(), e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return report;
+    }
+
     @Override
     public <T> void ensureIndexes(final Class<T> clazz) {
         final IndexHelper indexHelper = new IndexHelper(mapper);
@@ -363,6 +462,16 @@ public class DatastoreImpl implements AdvancedDatastore {
         return getByKeys(null, keys);
     }
 
+    @Override
+    public <T> List<T> getByKeys(final Iterable<Key<T>> keys, final GetByKeysOptions options) {
+        return streamByKeys(keys, options).toList();
+    }
+
+    @Override
+    public <T> MorphiaCursor<T> streamByKeys(final Iterable<Key<T>> keys, final GetByKeysOptions options) {
+        return new MorphiaCursor<>(new KeyBatchCursor<>(this, keys, options));
+    }
+
     @Override
     public MongoDatabase getDatabase() {
         return database;
@@ -401,6 +510,7 @@ public class DatastoreImpl implements AdvancedDatastore {
         document.remove("_id");
 
         final Query<T> query = (Query<T>) find(entity.getClass()).filter("_id", id);
+        mapper.getChangeTracker().forget(entity);
         if (!tryVersionedUpdate(entity, mapper.getCollection(entity.getClass()), options)) {
             UpdateResult execute = query.update()
                                         .set(entity)
@@ -435,18 +545,24 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
 
         Map<Class, List<T>> grouped = new LinkedHashMap<>();
-        List<T> list = new ArrayList<>();
+        Map<Class, List<T>> withIds = new LinkedHashMap<>();
         for (final T entity : entities) {
+            if (entity == null) {
+                throw new UpdateException(Sofia.cannotPersistNullEntity());
+            }
+            mapper.getChangeTracker().forget(entity);
+            Class type = mapper.getCollection(entity.getClass()).getDocumentClass();
             if (getMapper().getId(entity) != null) {
-                list.add(entity);
+                withIds.computeIfAbsent(type, c -> new ArrayList<>())
+                       .add(entity);
             } else {
-                grouped.computeIfAbsent(mapper.getCollection(entity.getClass()).getDocumentClass(), c -> new ArrayList<>())
+                grouped.computeIfAbsent(type, c -> new ArrayList<>())
                        .add(entity);
             }
         }
 
         for (Entry<Class, List<T>> entry : grouped.entrySet()) {
-            MongoCollection<T> collection = options.apply(mapper.getCollection(entry.getKey()));
+            MongoCollection<T> collection = mapper.getCollection(entry.getKey(), null, null, options.writeConcern());
             if (options.clientSession() == null) {
                 collection.insertMany(entry.getValue(), options.getOptions());
             } else {
@@ -454,16 +570,178 @@ public class DatastoreImpl implements AdvancedDatastore {
             }
         }
 
-        InsertOneOptions insertOneOptions = new InsertOneOptions()
-                                                .bypassDocumentValidation(options.getBypassDocumentValidation())
-                                                .clientSession(findSession(options))
-                                                .writeConcern(options.writeConcern());
-        for (final T entity : list) {
-            save(entity, insertOneOptions);
+        List<ConcurrentModificationException> conflicts = new ArrayList<>();
+        for (Entry<Class, List<T>> entry : withIds.entrySet()) {
+            MongoCollection<T> collection = mapper.getCollection(entry.getKey(), null, null, options.writeConcern());
+            List<T> list = entry.getValue();
+            for (int start = 0; start < list.size(); start += options.batchSize()) {
+                boolean complete = bulkSave(collection, list.subList(start, Math.min(list.size(), start + options.batchSize())),
+                    options, conflicts);
+                if ((!complete || !conflicts.isEmpty()) && options.isOrdered()) {
+                    break;
+                }
+            }
+            if (!conflicts.isEmpty() && options.isOrdered()) {
+                break;
+            }
+        }
+
+        if (conflicts.size() == 1) {
+            throw conflicts.get(0);
+        } else if (!conflicts.isEmpty()) {
+            ConcurrentModificationException exception = new ConcurrentModificationException(
+                Sofia.concurrentModifications(conflicts.size()));
+            conflicts.forEach(exception::addSuppressed);
+            throw exception;
         }
         return entities;
     }
 
+    /**
+     * Saves entities with IDs in one bulk write.  Entities without a version field are upserted by replacing their documents.
+     * Versioned entities are inserted if they have not been saved before or updated with their expected version in the filter.  Since
+     * a bulk write only reports how many updates matched in total, the stored versions are only checked when that count falls short.
+     *
+     * @return true if every entity was written
+     */
+    @SuppressWarnings("unchecked")
+    private <T> boolean bulkSave(final MongoCollection<T> collection, final List<T> entities, final InsertManyOptions options,
+                                 final List<ConcurrentModificationException> conflicts) {
+        final int size = entities.size();
+        final List<WriteModel<T>> models = new ArrayList<>(size);
+        final MappedField[] versionFields = new MappedField[size];
+        final Long[] oldVersions = new Long[size];
+        final String collectionName = collection.getNamespace().getCollectionName();
+        for (int i = 0; i < size; i++) {
+            final T entity = entities.get(i);
+            final Object id = mapper.getId(entity);
+            final MappedField versionField = mapper.getMappedClass(entity.getClass()).getVersionField();
+            if (versionField == null) {
+                models.add(new ReplaceOneModel<>(new Document("_id", id), entity,
+                    new ReplaceOptions()
+                        .bypassDocumentValidation(options.getBypassDocumentValidation())
+                        .upsert(true)));
+            } else {
+                versionFields[i] = versionField;
+                oldVersions[i] = (Long) versionField.getFieldValue(entity);
+                if (nextVersion(oldVersions[i]) == 1) {
+                    updateVersion(entity, versionField, 1L);
+                    models.add(new InsertOneModel<>(entity));
+                } else {
+                    final Query<T> query = this.<T>find(collectionName)
+                                               .filter("_id", id)
+                                               .filter(versionField.getMappedFieldName(), oldVersions[i]);
+                    models.add(new UpdateOneModel<>(query.toBson(), query.update().set(entity).toDocument(),
+                        new UpdateOptions().bypassDocumentValidation(options.getBypassDocumentValidation())));
+                }
+            }
+        }
+
+        final ClientSession session = findSession(options);
+        final BulkWriteOptions bulkWriteOptions = new BulkWriteOptions()
+                                                      .ordered(options.isOrdered())
+                                                      .bypassDocumentValidation(options.getBypassDocumentValidation());
+        BulkWriteResult result;
+        MongoBulkWriteException failure = null;
+        final boolean[] failed = new boolean[size];
+        int processed = size;
+        try {
+            result = session == null ? collection.bulkWrite(models, bulkWriteOptions)
+                                     : collection.bulkWrite(session, models, bulkWriteOptions);
+        } catch (MongoBulkWriteException e) {
+            result = e.getWriteResult();
+            for (final BulkWriteError error : e.getWriteErrors()) {
+                failed[error.getIndex()] = true;
+                if (versionFields[error.getIndex()] == null || !(models.get(error.getIndex()) instanceof InsertOneModel)) {
+                    failure = e;
+                }
+            }
+            if (options.isOrdered() && !e.getWriteErrors().isEmpty()) {
+                processed = e.getWriteErrors().get(0).getIndex() + 1;
+            }
+            if (e.getWriteConcernError() != null) {
+                failure = e;
+            }
+        }
+
+        boolean[] stale = new boolean[size];
+        if (result.wasAcknowledged()) {
+            int expectedMatches = 0;
+            final boolean[] upserted = new boolean[size];
+            for (final BulkWriteUpsert upsert : result.getUpserts()) {
+                upserted[upsert.getIndex()] = true;
+            }
+            final List<Integer> updates = new ArrayList<>();
+            for (int i = 0; i < processed; i++) {
+                if (!failed[i] && !upserted[i] && !(models.get(i) instanceof InsertOneModel)) {
+                    expectedMatches++;
+                    if (versionFields[i] != null) {
+                        updates.add(i);
+                    }
+                }
+            }
+            if (result.getMatchedCount() < expectedMatches && !updates.isEmpty()) {
+                stale = findStaleVersions(collection, session, entities, updates, versionFields, oldVersions);
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            final MappedField versionField = versionFields[i];
+            if (versionField == null) {
+                continue;
+            }
+            final T entity = entities.get(i);
+            if (i >= processed || failed[i] || stale[i]) {
+                updateVersion(entity, versionField, oldVersions[i]);
+                if (i < processed && failure == null) {
+                    conflicts.add(new ConcurrentModificationException(Sofia.concurrentModification(entity.getClass().getName(),
+                        mapper.getId(entity))));
+                }
+            } else if (models.get(i) instanceof UpdateOneModel) {
+                updateVersion(entity, versionField, nextVersion(oldVersions[i]));
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+
+        return processed == size;
+    }
+
+    private <T> boolean[] findStaleVersions(final MongoCollection<T> collection, final ClientSession session, final List<T> entities,
+                                            final List<Integer> updates, final MappedField[] versionFields, final Long[] oldVersions) {
+        final boolean[] stale = new boolean[entities.size()];
+        final Map<BsonValue, Integer> positions = new HashMap<>();
+        final BsonArray ids = new BsonArray();
+        for (final Integer index : updates) {
+            final BsonValue id = BsonDocumentWrapper.asBsonDocument(new Document("_id", mapper.getId(entities.get(index))),
+                mapper.getCodecRegistry()).get("_id");
+            positions.put(id, index);
+            ids.add(id);
+            stale[index] = true;
+        }
+
+        final String version = versionFields[updates.get(0)].getMappedFieldName();
+        final MongoCollection<BsonDocument> documents = collection.withDocumentClass(BsonDocument.class);
+        final BsonDocument filter = new BsonDocument("_id", new BsonDocument("$in", ids));
+        final Document projection = new Document(version, 1);
+        final FindIterable<BsonDocument> stored = session == null ? documents.find(filter)
+                                                                  : documents.find(session, filter);
+        for (final BsonDocument document : stored.projection(projection)) {
+            final Integer index = positions.get(document.get("_id"));
+            final BsonValue value = document.get(version);
+            if (index != null && value != null && value.isNumber()
+                && value.asNumber().longValue() == nextVersion(oldVersions[index])) {
+                stale[index] = false;
+            }
+        }
+        return stale;
+    }
+
+    private long nextVersion(final Long version) {
+        return version == null ? 1L : version + 1;
+    }
+
     @Override
     public <T> T save(final T entity) {
         return save(entity, new InsertOneOptions());
@@ -484,11 +762,73 @@ public class DatastoreImpl implements AdvancedDatastore {
             throw new UpdateException(Sofia.cannotPersistNullEntity());
         }
 
+        if (mapper.getOptions().isTrackChanges() && trySavingChanges(entity, collection, options)) {
+            return;
+        }
         if (!tryVersionedUpdate(entity, collection, options)) {
             saveDocument(entity, collection, options);
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> boolean trySavingChanges(final T entity, final MongoCollection collection, final InsertOneOptions options) {
+        final ChangeTracker tracker = mapper.getChangeTracker();
+        final MappedClass mc = mapper.getMappedClass(entity.getClass());
+        final ChangeTracker.Snapshot snapshot = mc.getIdField().getFieldValue(entity) != null ? tracker.getSnapshot(entity) : null;
+        final MappedField versionField = mc.getVersionField();
+        final Long oldVersion = versionField != null ? (Long) versionField.getFieldValue(entity) : null;
+        if (snapshot == null || versionField != null && oldVersion == null) {
+            tracker.forget(entity);
+            return false;
+        }
+
+        if (versionField != null) {
+            updateVersion(entity, versionField, nextVersion(oldVersion));
+        }
+        try {
+            final EncodedEntity encoded = tracker.encode(entity, (Codec<T>) collection.getCodecRegistry().get(entity.getClass()));
+            final BsonDocument changes = encoded.getChanges(snapshot);
+            if (!changes.isEmpty()) {
+                final RawBsonDocument document = encoded.getDocument();
+                final BsonDocument filter = new BsonDocument("_id", document.get("_id"));
+                if (versionField != null) {
+                    filter.append(versionField.getMappedFieldName(), new BsonInt64(oldVersion));
+                }
+                final ClientSession session = findSession(options);
+                final MongoCollection<BsonDocument> target = configure(collection, options.writeConcern())
+                                                                 .withDocumentClass(BsonDocument.class);
+                final UpdateOptions updateOptions = new UpdateOptions()
+                                                        .bypassDocumentValidation(options.getBypassDocumentValidation());
+                final UpdateResult result = session == null
+                                            ? target.updateOne(filter, changes, updateOptions)
+                                            : target.updateOne(session, filter, changes, updateOptions);
+                if (result.wasAcknowledged() && result.getMatchedCount() != 1) {
+                    if (versionField != null) {
+                        throw new ConcurrentModificationException(Sofia.concurrentModification(entity.getClass().getName(),
+                            mc.getIdField().getFieldValue(entity)));
+                    }
+                    final MongoCollection<RawBsonDocument> raw = target.withDocumentClass(RawBsonDocument.class);
+                    final ReplaceOptions replaceOptions = new ReplaceOptions()
+                                                             .bypassDocumentValidation(options.getBypassDocumentValidation())
+                                                             .upsert(true);
+                    if (session == null) {
+                        raw.replaceOne(filter, document, replaceOptions);
+                    } else {
+                        raw.replaceOne(session, filter, document, replaceOptions);
+                    }
+                }
+            }
+            tracker.update(entity, encoded);
+            return true;
+        } catch (RuntimeException e) {
+            if (versionField != null) {
+                updateVersion(entity, versionField, oldVersion);
+            }
+            tracker.forget(entity);
+            throw e;
+        }
+    }
+
     private <T> boolean tryVersionedUpdate(final T entity, final MongoCollection collection, final InsertOneOptions options) {
         final MappedClass mc = mapper.getMappedClass(entity.getClass());
         if (mc.getVersionField() == null) {
@@ -500,16 +840,16 @@ public class DatastoreImpl implements AdvancedDatastore {
         final MappedField versionField = mc.getVersionField();
 
         Long oldVersion = (Long) versionField.getFieldValue(entity);
-        long newVersion = oldVersion == null ? 1L : oldVersion + 1;
+        long newVersion = nextVersion(oldVersion);
         ClientSession session = findSession(options);
 
         if (newVersion == 1) {
             try {
                 updateVersion(entity, versionField, newVersion);
                 if (session == null) {
-                    options.apply(collection).insertOne(entity, options.getOptions());
+                    configure(collection, options.writeConcern()).insertOne(entity, options.getOptions());
                 } else {
-                    options.apply(collection).insertOne(session, entity, options.getOptions());
+                    configure(collection, options.writeConcern()).insertOne(session, entity, options.getOptions());
                 }
             } catch (MongoWriteException e) {
                 updateVersion(entity, versionField, oldVersion);
@@ -568,18 +908,15 @@ public class DatastoreImpl implements AdvancedDatastore {
 
         if (id == null) {
             if (clientSession == null) {
-                options.apply(collection).insertOne(entity, options.getOptions());
+                configure(collection, options.writeConcern()).insertOne(entity, options.getOptions());
             } else {
-                options.apply(collection).insertOne(clientSession, entity, options.getOptions());
+                configure(collection, options.writeConcern()).insertOne(clientSession, entity, options.getOptions());
             }
         } else {
             ReplaceOptions updateOptions = new ReplaceOptions()
                                                .bypassDocumentValidation(options.getBypassDocumentValidation())
                                                .upsert(true);
-            MongoCollection<T> updated = collection;
-            if (options.writeConcern() != null) {
-                updated = collection.withWriteConcern(options.writeConcern());
-            }
+            final MongoCollection<T> updated = configure(collection, options.writeConcern());
             if (clientSession == null) {
                 updated.replaceOne(new Document("_id", id), entity, updateOptions);
             } else {
@@ -588,6 +925,16 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
     }
 
+    /**
+     * Applies a write concern to a mapped collection.  The configured collection is taken from the mapper's cache rather than wrapping the
+     * collection again for each write.
+     */
+    private <T> MongoCollection<T> configure(final MongoCollection<T> collection, final WriteConcern writeConcern) {
+        return writeConcern != null
+               ? mapper.getCollection(collection.getDocumentClass(), null, null, writeConcern)
+               : collection;
+    }
+
     private <T> void updateVersion(final T entity, final MappedField field, final Long newVersion) {
         field.setFieldValue(entity, newVersion);
     }
@@ -625,4 +972,9 @@ public class DatastoreImpl implements AdvancedDatastore {
     public <T> void refresh(final T entity) {
         getMapper().refresh(entity);
     }
+
+    @Override
+    public <T> void refresh(final Collection<T> entities) {
+        getMapper().refresh(entities);
+    }
 }
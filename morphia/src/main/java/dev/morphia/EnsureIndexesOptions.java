@@ -0,0 +1,35 @@
+package dev.morphia;
+
+import dev.morphia.sofia.Sofia;
+
+/**
+ * Options for creating the indexes missing from mapped collections.  The setter methods return {@code this} so that a chaining style
+ * can be used.
+ *
+ * @see Datastore#ensureIndexes(EnsureIndexesOptions)
+ * @since 2.0
+ */
+public class EnsureIndexesOptions {
+    private int parallelism = 8;
+
+    /**
+     * Sets how many collections are indexed at once.  The default is 8.
+     *
+     * @param parallelism the number of collections to index at once
+     * @return this
+     */
+    public EnsureIndexesOptions parallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(Sofia.invalidParallelism(parallelism));
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * @return the number of collections indexed at once
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+}
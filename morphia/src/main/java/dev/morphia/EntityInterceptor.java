@@ -30,6 +30,17 @@ public interface EntityInterceptor {
     default void postPersist(Object ent, Document document, Mapper mapper) {
     }
 
+    /**
+     * Indicates whether this interceptor reads or modifies the Document passed to its callbacks.  If this method returns false, the
+     * callbacks are passed a null Document and entities can be encoded and decoded without building an intermediate Document.
+     *
+     * @return true if the Document form of the entity is needed
+     * @since 2.0
+     */
+    default boolean usesDocument() {
+        return true;
+    }
+
     /**
      * @param ent      the entity being processed
      * @param document the Document form of the entity
@@ -0,0 +1,81 @@
+package dev.morphia;
+
+import dev.morphia.sofia.Sofia;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Options for loading entities by key.  The setter methods return {@code this} so that a chaining style can be used.
+ *
+ * @see Datastore#getByKeys(Iterable, GetByKeysOptions)
+ * @see Datastore#streamByKeys(Iterable, GetByKeysOptions)
+ * @since 2.0
+ */
+public class GetByKeysOptions {
+    private int chunkSize = 1000;
+    private int parallelism = 4;
+    private Executor executor;
+
+    /**
+     * Sets how many keys are loaded with each query.  The default is 1000.
+     *
+     * @param chunkSize the number of keys per query
+     * @return this
+     */
+    public GetByKeysOptions chunkSize(final int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(Sofia.invalidBatchSize(chunkSize));
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * @return the number of keys loaded with each query
+     */
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets how many queries may run at once.  A chunk of keys spanning several collections is loaded with one query per collection and
+     * each of those counts against this limit.  This also bounds how many queries are loaded ahead of the entities being consumed.  The
+     * default is 4.  Datastores bound to a session always load one chunk at a time on the calling thread.
+     *
+     * @param parallelism the number of queries to run at once
+     * @return this
+     */
+    public GetByKeysOptions parallelism(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(Sofia.invalidParallelism(parallelism));
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * @return the number of queries run at once
+     */
+    public int parallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the executor to run the queries on when more than one may run at once.  By default a fixed size pool shared by all
+     * datastores is used whose threads are released once they have been idle for a minute.
+     *
+     * @param executor the executor to use
+     * @return this
+     */
+    public GetByKeysOptions executor(final Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * @return the executor to run the queries on or null if the shared pool is used
+     */
+    public Executor executor() {
+        return executor;
+    }
+}
@@ -17,6 +17,7 @@
 package dev.morphia;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexModel;
 import dev.morphia.annotations.Collation;
 import dev.morphia.annotations.Field;
 import dev.morphia.annotations.Index;
@@ -31,6 +32,7 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.sofia.Sofia;
 import dev.morphia.utils.IndexType;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,7 +40,12 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static dev.morphia.utils.IndexType.fromValue;
@@ -51,6 +58,15 @@ import static java.util.Collections.emptyList;
  */
 public final class IndexHelper {
     private static final Logger LOG = LoggerFactory.getLogger(IndexHelper.class);
+    private static final String DEFAULT_LANGUAGE = "english";
+    private static final String DEFAULT_LANGUAGE_OVERRIDE = "language";
+    /**
+     * The fields of an index listing that are either compared when looking for an existing index or only ever hold server defaults.  An
+     * existing index with any other option is never treated as a match.
+     */
+    private static final Set<String> KNOWN_INDEX_FIELDS = Set.of("v", "key", "name", "ns", "unique", "sparse", "background",
+        "expireAfterSeconds", "partialFilterExpression", "default_language", "language_override", "weights", "textIndexVersion",
+        "2dsphereIndexVersion", "collation");
 
     private final Mapper mapper;
 
@@ -220,6 +236,161 @@ public final class IndexHelper {
         }
     }
 
+    /**
+     * Collects the indexes defined by the mapped classes stored in one collection
+     *
+     * @param classes the mapped classes stored in the collection
+     * @return the index definitions
+     */
+    List<IndexModel> collectIndexModels(final List<MappedClass> classes) {
+        final List<IndexModel> models = new ArrayList<>();
+        for (final MappedClass mc : classes) {
+            if (mc.isInterface() || mc.isAbstract()) {
+                continue;
+            }
+            for (final Index index : collectIndexes(mc, Collections.emptyList())) {
+                final com.mongodb.client.model.IndexOptions indexOptions = convert(index.options());
+                calculateWeights(index, indexOptions);
+                models.add(new IndexModel(calculateKeys(mc, index), indexOptions));
+            }
+        }
+        return models;
+    }
+
+    /**
+     * Creates the indexes a collection does not have yet.  The existing indexes are listed once and the missing ones are created
+     * together.  An index is only skipped when an existing index has the same keys and every option the mapping can set matches:
+     * uniqueness, sparseness, background builds, expiry, partial filter, collation, text weights and languages and, if one is given,
+     * name.  Otherwise it is sent to the server which either accepts it or reports the conflict.
+     *
+     * @param collection the collection to index
+     * @param models     the index definitions
+     * @param report     the report to record the outcome in
+     */
+    void createMissingIndexes(final MongoCollection<?> collection, final List<IndexModel> models, final IndexReport report) {
+        final List<Document> existing = collection.listIndexes().into(new ArrayList<>());
+        final List<IndexModel> missing = new ArrayList<>();
+        final List<Document> skipped = new ArrayList<>();
+        for (final IndexModel model : models) {
+            final Document keys = (Document) model.getKeys();
+            if (existing.stream().anyMatch(info -> matches(info, keys, model.getOptions()))
+                || missing.stream().anyMatch(other -> other.getKeys().equals(keys))) {
+                skipped.add(keys);
+            } else {
+                missing.add(model);
+            }
+        }
+        if (!missing.isEmpty()) {
+            collection.createIndexes(missing);
+        }
+
+        final List<Document> created = new ArrayList<>();
+        for (final IndexModel model : missing) {
+            created.add((Document) model.getKeys());
+        }
+        report.add(collection.getNamespace().getCollectionName(), created, skipped);
+    }
+
+    private static boolean matches(final Document info, final Document keys, final com.mongodb.client.model.IndexOptions options) {
+        final Document existingKeys = (Document) info.get("key");
+        final boolean text = existingKeys.containsKey("_fts");
+        final boolean sameKeys = text
+                                 ? sameTextKeys(info, keys, options)
+                                 : sameKeys(existingKeys, keys);
+        return sameKeys
+               && KNOWN_INDEX_FIELDS.containsAll(info.keySet())
+               && isTrue(info.get("unique")) == options.isUnique()
+               && isTrue(info.get("sparse")) == options.isSparse()
+               && isTrue(info.get("background")) == options.isBackground()
+               && Objects.equals(info.get("expireAfterSeconds") instanceof Number
+                                 ? ((Number) info.get("expireAfterSeconds")).longValue()
+                                 : null, options.getExpireAfter(TimeUnit.SECONDS))
+               && Objects.equals(info.get("partialFilterExpression"), options.getPartialFilterExpression())
+               && Objects.equals(info.get("default_language"), textDefault(options.getDefaultLanguage(), text, DEFAULT_LANGUAGE))
+               && Objects.equals(info.get("language_override"),
+                   textDefault(options.getLanguageOverride(), text, DEFAULT_LANGUAGE_OVERRIDE))
+               && sameCollation((Document) info.get("collation"), options.getCollation())
+               && (options.getName() == null || options.getName().equals(info.getString("name")));
+    }
+
+    /**
+     * @return the configured value or, for text indexes, the value the server uses when none is given
+     */
+    private static String textDefault(final String configured, final boolean text, final String serverDefault) {
+        if (configured != null) {
+            return configured;
+        }
+        return text ? serverDefault : null;
+    }
+
+    /**
+     * The server fills in every collation field so only those given in the mapping are compared.
+     */
+    private static boolean sameCollation(final Document existing, final com.mongodb.client.model.Collation collation) {
+        if (existing == null || collation == null) {
+            return existing == null && collation == null;
+        }
+        for (final Entry<String, BsonValue> entry : collation.asDocument().entrySet()) {
+            final BsonValue value = entry.getValue();
+            final Object expected = value.isString() ? value.asString().getValue()
+                                  : value.isBoolean() ? (Object) value.asBoolean().getValue()
+                                  : value.isNumber() ? (Object) value.asNumber().intValue()
+                                  : value;
+            if (!sameValue(existing.get(entry.getKey()), expected)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameKeys(final Document existing, final Document keys) {
+        if (existing.size() != keys.size()) {
+            return false;
+        }
+        final Iterator<Entry<String, Object>> expected = keys.entrySet().iterator();
+        for (final Entry<String, Object> entry : existing.entrySet()) {
+            final Entry<String, Object> next = expected.next();
+            if (!entry.getKey().equals(next.getKey()) || !sameValue(entry.getValue(), next.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The server stores the fields of a text index as weights under the _fts key so those are compared along with the weights given in
+     * the mapping.  Fields without a weight default to 1.
+     */
+    private static boolean sameTextKeys(final Document info, final Document keys, final com.mongodb.client.model.IndexOptions options) {
+        final Document weights = (Document) info.get("weights");
+        if (weights == null) {
+            return false;
+        }
+        final Document expected = (Document) options.getWeights();
+        final Set<String> textFields = new HashSet<>();
+        for (final Entry<String, Object> entry : keys.entrySet()) {
+            if (IndexType.TEXT.toIndexValue().equals(entry.getValue())) {
+                textFields.add(entry.getKey());
+                final Object weight = expected != null && expected.containsKey(entry.getKey()) ? expected.get(entry.getKey()) : 1;
+                if (!sameValue(weights.get(entry.getKey()), weight)) {
+                    return false;
+                }
+            }
+        }
+        return !textFields.isEmpty() && weights.keySet().equals(textFields);
+    }
+
+    private static boolean sameValue(final Object existing, final Object expected) {
+        if (existing instanceof Number && expected instanceof Number) {
+            return ((Number) existing).doubleValue() == ((Number) expected).doubleValue();
+        }
+        return Objects.equals(existing, expected);
+    }
+
+    private static boolean isTrue(final Object value) {
+        return Boolean.TRUE.equals(value) || value instanceof Number && ((Number) value).intValue() != 0;
+    }
+
     void createIndex(final MongoCollection collection, final MappedClass mc, final Index index) {
         Document keys = calculateKeys(mc, index);
         com.mongodb.client.model.IndexOptions indexOptions = convert(index.options());
@@ -0,0 +1,63 @@
+package dev.morphia;
+
+import org.bson.Document;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Describes the outcome of {@link Datastore#ensureIndexes(EnsureIndexesOptions)}: the keys of the indexes created on each collection
+ * and of those skipped because the collection already had them.
+ *
+ * @since 2.0
+ */
+public class IndexReport {
+    private final Map<String, List<Document>> created = new TreeMap<>();
+    private final Map<String, List<Document>> skipped = new TreeMap<>();
+
+    synchronized void add(final String collection, final List<Document> createdKeys, final List<Document> skippedKeys) {
+        if (!createdKeys.isEmpty()) {
+            created.put(collection, Collections.unmodifiableList(createdKeys));
+        }
+        if (!skippedKeys.isEmpty()) {
+            skipped.put(collection, Collections.unmodifiableList(skippedKeys));
+        }
+    }
+
+    /**
+     * @return the keys of the indexes created mapped by collection name
+     */
+    public synchronized Map<String, List<Document>> getCreated() {
+        return Collections.unmodifiableMap(new TreeMap<>(created));
+    }
+
+    /**
+     * @return the keys of the indexes that already existed mapped by collection name
+     */
+    public synchronized Map<String, List<Document>> getSkipped() {
+        return Collections.unmodifiableMap(new TreeMap<>(skipped));
+    }
+
+    /**
+     * @param collection the collection name
+     * @return the keys of the indexes created on the collection
+     */
+    public synchronized List<Document> getCreated(final String collection) {
+        return created.getOrDefault(collection, List.of());
+    }
+
+    /**
+     * @param collection the collection name
+     * @return the keys of the indexes that already existed on the collection
+     */
+    public synchronized List<Document> getSkipped(final String collection) {
+        return skipped.getOrDefault(collection, List.of());
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "IndexReport{created=" + created + ", skipped=" + skipped + "}";
+    }
+}
@@ -20,6 +20,9 @@ import com.mongodb.WriteConcern;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
 import dev.morphia.internal.SessionConfigurable;
+import dev.morphia.sofia.Sofia;
+
+import java.util.List;
 
 /**
  * Options related to insertion of documents into MongoDB.  The setter methods return {@code this} so that a chaining style can be used.
@@ -30,6 +33,7 @@ public class InsertManyOptions implements SessionConfigurable<InsertManyOptions>
     private com.mongodb.client.model.InsertManyOptions options = new com.mongodb.client.model.InsertManyOptions();
     private WriteConcern writeConcern = WriteConcern.ACKNOWLEDGED;
     private ClientSession clientSession;
+    private int batchSize = 1000;
 
     /**
      * Creates a new options wrapper
@@ -46,6 +50,7 @@ public class InsertManyOptions implements SessionConfigurable<InsertManyOptions>
         this.options = that.options;
         this.writeConcern = that.writeConcern;
         this.clientSession = that.clientSession;
+        this.batchSize = that.batchSize;
     }
 
     /**
@@ -74,6 +79,31 @@ public class InsertManyOptions implements SessionConfigurable<InsertManyOptions>
         return this;
     }
 
+    /**
+     * Sets how many entities with IDs are sent to the server in each bulk write when saving a list.  The driver still splits each
+     * bulk write to fit the server's limits.  The default is 1000.
+     *
+     * @param batchSize the number of entities per bulk write
+     * @return this
+     * @see Datastore#save(List, InsertManyOptions)
+     * @since 2.0
+     */
+    public InsertManyOptions batchSize(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(Sofia.invalidBatchSize(batchSize));
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @return the number of entities with IDs sent to the server in each bulk write when saving a list
+     * @since 2.0
+     */
+    public int batchSize() {
+        return batchSize;
+    }
+
     /**
      * Set the client session to use for the insert.
      *
@@ -160,11 +160,22 @@ public interface Aggregation<T> {
     Aggregation<T> facet(Facet facet);
 
     /**
-     * @return the stage documents
+     * @return the stage documents as they will be sent to the server
      * @morphia.internal
+     * @see #optimize()
      */
     List<Document> getDocuments();
 
+    /**
+     * Gets the stage documents either as the pipeline was built or after optimization.  Comparing the two shows how the pipeline is
+     * rewritten when {@link #optimize() optimization} is enabled.
+     *
+     * @param optimized true to get the optimized pipeline
+     * @return the stage documents
+     * @since 2.0
+     */
+    List<Document> getDocuments(boolean optimized);
+
     /**
      * @param name the name of the stage to fetch
      * @param <S> the type of the stage
@@ -256,6 +267,19 @@ public interface Aggregation<T> {
      */
     Aggregation<T> merge(Merge merge);
 
+    /**
+     * Rewrites the pipeline before it is sent to the server where doing so can not change its results.  Adjacent {@code $match},
+     * {@code $limit}, and {@code $skip} stages are combined, {@code $limit} and {@code $skip} are moved ahead of projections, and
+     * {@code $match} is moved ahead of {@code $lookup} and {@code $unwind} stages when it does not refer to the fields they write.  This
+     * lets pipelines be composed from reusable fragments without losing index use or the server's top-k sorting.  The stages returned by
+     * {@link #getStages()} are left as they were added.
+     *
+     * @return this
+     * @see #getDocuments(boolean)
+     * @since 2.0
+     */
+    Aggregation<T> optimize();
+
     /**
      * Writes the results of the aggregation pipeline to a specified collection. The $out operator must be the last stage in the pipeline.
      *
@@ -51,6 +51,7 @@ public class AggregationImpl<T> implements Aggregation<T> {
     private final Datastore datastore;
     private final MongoCollection<T> collection;
     private final List<Stage> stages = new ArrayList<>();
+    private boolean optimize;
 
     /**
      * Creates an instance.
@@ -130,9 +131,15 @@ public class AggregationImpl<T> implements Aggregation<T> {
     }
 
     @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
     public List<Document> getDocuments() {
-        List<Document> collect = stages.stream()
+        return getDocuments(optimize);
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Document> getDocuments(final boolean optimized) {
+        final List<Stage> pipeline = optimized ? new PipelineOptimizer(datastore).optimize(stages) : stages;
+        List<Document> collect = pipeline.stream()
                                        .map(s -> {
                                            Codec codec = datastore.getMapper().getCodecRegistry().get(s.getClass());
                                            DocumentWriter writer = new DocumentWriter();
@@ -201,6 +208,12 @@ public class AggregationImpl<T> implements Aggregation<T> {
         return this;
     }
 
+    @Override
+    public Aggregation<T> optimize() {
+        optimize = true;
+        return this;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <O> Aggregation<O> out(final Out<O> out) {
@@ -0,0 +1,183 @@
+package dev.morphia.aggregation.experimental;
+
+import dev.morphia.Datastore;
+import dev.morphia.aggregation.experimental.stages.AddFields;
+import dev.morphia.aggregation.experimental.stages.Limit;
+import dev.morphia.aggregation.experimental.stages.Lookup;
+import dev.morphia.aggregation.experimental.stages.Match;
+import dev.morphia.aggregation.experimental.stages.Projection;
+import dev.morphia.aggregation.experimental.stages.Skip;
+import dev.morphia.aggregation.experimental.stages.Stage;
+import dev.morphia.aggregation.experimental.stages.Unset;
+import dev.morphia.aggregation.experimental.stages.Unwind;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Rewrites a pipeline before it is sent to the server when doing so can not change its results:
+ * <ul>
+ *     <li>adjacent {@code $match} stages are combined in to one</li>
+ *     <li>adjacent {@code $limit} stages and adjacent {@code $skip} stages are combined</li>
+ *     <li>{@code $limit} and {@code $skip} are moved ahead of {@code $project}, {@code $addFields}, and {@code $unset} so that a
+ *     {@code $sort} separated from its {@code $limit} by a projection can be coalesced in to a top-k sort by the server</li>
+ *     <li>{@code $match} is moved ahead of {@code $lookup} and {@code $unwind} stages when it does not refer to the fields they
+ *     write so that fewer documents are joined or unwound and indexes can be used</li>
+ * </ul>
+ * Filters that can not be analyzed, e.g. those using {@code $expr} or {@code $where}, are never moved.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+public class PipelineOptimizer {
+    private static final Logger LOG = LoggerFactory.getLogger(PipelineOptimizer.class);
+    private static final Set<String> LOGICAL_OPERATORS = new HashSet<>(asList("$and", "$or", "$nor"));
+
+    private final Datastore datastore;
+
+    /**
+     * Creates an optimizer
+     *
+     * @param datastore the datastore to create the queries of combined stages with
+     */
+    public PipelineOptimizer(final Datastore datastore) {
+        this.datastore = datastore;
+    }
+
+    /**
+     * Optimizes a pipeline.  The given list is not modified.
+     *
+     * @param stages the pipeline to optimize
+     * @return the optimized pipeline
+     */
+    public List<Stage> optimize(final List<Stage> stages) {
+        final List<Stage> pipeline = new ArrayList<>(stages);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; !changed && i + 1 < pipeline.size(); i++) {
+                changed = rewrite(pipeline, i, pipeline.get(i), pipeline.get(i + 1));
+            }
+        }
+        return pipeline;
+    }
+
+    private boolean rewrite(final List<Stage> pipeline, final int index, final Stage current, final Stage next) {
+        if (current instanceof Match && next instanceof Match) {
+            final Document combined = combine(((Match) current).getQuery().toDocument(), ((Match) next).getQuery().toDocument());
+            replace(pipeline, index, Match.on(datastore.getQueryFactory().createQuery(datastore, Document.class, combined)),
+                "combined adjacent $match stages");
+        } else if (current instanceof Limit && next instanceof Limit) {
+            replace(pipeline, index, Limit.of(Math.min(((Limit) current).getLimit(), ((Limit) next).getLimit())),
+                "combined adjacent $limit stages");
+        } else if (current instanceof Skip && next instanceof Skip) {
+            replace(pipeline, index, Skip.of(((Skip) current).getSize() + ((Skip) next).getSize()), "combined adjacent $skip stages");
+        } else if ((next instanceof Limit || next instanceof Skip) && reshapesOnly(current)) {
+            swap(pipeline, index, "moved " + next.getStageName() + " ahead of " + current.getStageName());
+        } else if (next instanceof Match && writtenField(current) != null && independent((Match) next, current)) {
+            swap(pipeline, index, "moved $match ahead of " + current.getStageName());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the stage changes the shape of each document without changing their number or order
+     */
+    private static boolean reshapesOnly(final Stage stage) {
+        return stage instanceof Projection || stage instanceof AddFields || stage instanceof Unset;
+    }
+
+    /**
+     * @return the fields written by the stage if a $match not referencing them can be moved ahead of it or null
+     */
+    private static Set<String> writtenField(final Stage stage) {
+        final Set<String> fields = new HashSet<>();
+        if (stage instanceof Lookup && ((Lookup) stage).getAs() != null) {
+            fields.add(((Lookup) stage).getAs());
+        } else if (stage instanceof Unwind && ((Unwind) stage).getPath().getValue() instanceof String) {
+            final Unwind unwind = (Unwind) stage;
+            fields.add(((String) unwind.getPath().getValue()).substring(1));
+            if (unwind.getIncludeArrayIndex() != null) {
+                fields.add(unwind.getIncludeArrayIndex());
+            }
+        } else {
+            return null;
+        }
+        return fields;
+    }
+
+    private static boolean independent(final Match match, final Stage stage) {
+        final Set<String> referenced = new HashSet<>();
+        if (!collectFields(match.getQuery().toDocument(), referenced)) {
+            return false;
+        }
+        for (final String written : Objects.requireNonNull(writtenField(stage))) {
+            for (final String field : referenced) {
+                if (field.equals(written) || field.startsWith(written + ".") || written.startsWith(field + ".")) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the fields a filter refers to.
+     *
+     * @return false if the filter uses operators whose fields can not be determined
+     */
+    private static boolean collectFields(final Document filter, final Set<String> fields) {
+        for (final Entry<String, Object> entry : filter.entrySet()) {
+            final String key = entry.getKey();
+            if (LOGICAL_OPERATORS.contains(key) && entry.getValue() instanceof List) {
+                for (final Object clause : (List<?>) entry.getValue()) {
+                    if (!(clause instanceof Document) || !collectFields((Document) clause, fields)) {
+                        return false;
+                    }
+                }
+            } else if (key.startsWith("$")) {
+                if (!key.equals("$comment")) {
+                    return false;
+                }
+            } else {
+                fields.add(key);
+            }
+        }
+        return true;
+    }
+
+    private static Document combine(final Document first, final Document second) {
+        final Document combined = new Document(first);
+        for (final Entry<String, Object> entry : second.entrySet()) {
+            final Object existing = combined.get(entry.getKey());
+            if (existing == null && !combined.containsKey(entry.getKey())) {
+                combined.put(entry.getKey(), entry.getValue());
+            } else if (!Objects.equals(existing, entry.getValue())) {
+                return new Document("$and", asList(first, second));
+            }
+        }
+        return combined;
+    }
+
+    private static void replace(final List<Stage> pipeline, final int index, final Stage replacement, final String change) {
+        LOG.debug("Optimizing aggregation pipeline: {} at stage {}", change, index);
+        pipeline.set(index, replacement);
+        pipeline.remove(index + 1);
+    }
+
+    private static void swap(final List<Stage> pipeline, final int index, final String change) {
+        LOG.debug("Optimizing aggregation pipeline: {} at stage {}", change, index);
+        pipeline.add(index, pipeline.remove(index + 1));
+    }
+}
@@ -0,0 +1,24 @@
+package dev.morphia.annotations;
+
+import dev.morphia.mapping.codec.PackedArrayCodec;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Stores an array of primitive numbers as a single binary value rather than as a BSON array.  The elements are written in little-endian
+ * order so that reading or writing the field is one bulk copy.  Packed fields can only be matched as a whole in queries and updates.
+ * <p>
+ * Documents written before a field was packed are still read from their array form.
+ *
+ * @since 2.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@Handler(PackedArrayCodec.class)
+public @interface Packed {
+}
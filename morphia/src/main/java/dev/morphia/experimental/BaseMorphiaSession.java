@@ -10,6 +10,7 @@ import com.mongodb.client.TransactionBody;
 import com.mongodb.lang.Nullable;
 import com.mongodb.session.ServerSession;
 import dev.morphia.DatastoreImpl;
+import dev.morphia.Key;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.QueryFactory;
 import org.bson.BsonDocument;
@@ -21,6 +22,7 @@ import org.bson.BsonTimestamp;
  */
 public abstract class BaseMorphiaSession extends DatastoreImpl implements MorphiaSession {
     private ClientSession session;
+    private IdentityMap identityMap;
 
     BaseMorphiaSession(final ClientSession session,
                        final MongoClient mongoClient,
@@ -31,6 +33,28 @@ public abstract class BaseMorphiaSession extends DatastoreImpl implements Morphi
         this.session = session;
     }
 
+    @Override
+    public MorphiaSession identityMap(final boolean enabled) {
+        identityMap = enabled ? new IdentityMap(getMapper()) : null;
+        return this;
+    }
+
+    @Override
+    public IdentityMap getIdentityMap() {
+        return identityMap;
+    }
+
+    @Override
+    public <T> T getByKey(final Class<T> clazz, final Key<T> key) {
+        if (identityMap != null) {
+            final Object entity = identityMap.get(getMapper().updateCollection(key), key.getId());
+            if (clazz.isInstance(entity)) {
+                return clazz.cast(entity);
+            }
+        }
+        return super.getByKey(clazz, key);
+    }
+
     @Override
     @Nullable
     public ServerAddress getPinnedServerAddress() {
@@ -0,0 +1,211 @@
+package dev.morphia.experimental;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.references.MorphiaProxy;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Holds the entities loaded through a {@link MorphiaSession} keyed by collection and ID so that loading the same document again
+ * returns the same instance without a trip to the server.
+ *
+ * @morphia.internal
+ * @morphia.experimental
+ * @since 2.0
+ */
+public class IdentityMap {
+    private static final ThreadLocal<IdentityMap> CURRENT = new ThreadLocal<>();
+
+    private final Mapper mapper;
+    private final Map<String, Map<Object, Object>> entities = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty identity map
+     *
+     * @param mapper the mapper to use
+     */
+    public IdentityMap(final Mapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * @return the identity map of the session loading entities on this thread, if any
+     */
+    public static IdentityMap current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the loader with this identity map available to any references it resolves
+     *
+     * @param loader the loading function
+     * @param <R>    the loaded type
+     * @return the loaded value
+     */
+    public <R> R apply(final Supplier<R> loader) {
+        final IdentityMap previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return loader.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Finds a loaded entity
+     *
+     * @param collection the collection of the entity
+     * @param id         the ID of the entity
+     * @param <T>        the entity type
+     * @return the entity or null if it has not been loaded
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String collection, final Object id) {
+        final Map<Object, Object> loaded = entities.get(collection);
+        return loaded != null && id != null ? (T) loaded.get(id) : null;
+    }
+
+    /**
+     * Finds loaded entities
+     *
+     * @param collection the collection to search
+     * @param ids        the IDs to find
+     * @return the entities mapped by their IDs or null if any of them has not been loaded
+     */
+    public Map<Object, Object> find(final String collection, final Collection<?> ids) {
+        final Map<Object, Object> loaded = entities.get(collection);
+        if (loaded == null) {
+            return null;
+        }
+        final Map<Object, Object> found = new HashMap<>();
+        for (final Object id : ids) {
+            final Object entity = id != null ? loaded.get(id) : null;
+            if (entity == null) {
+                return null;
+            }
+            found.put(id, entity);
+        }
+        return found;
+    }
+
+    /**
+     * Adds an entity to this map unless an instance for the same document is already present
+     *
+     * @param entity the loaded entity
+     * @param <T>    the entity type
+     * @return the instance held for the entity's document.  Entities without an ID and lazy proxies are returned as is.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T register(final T entity) {
+        if (entity == null || entity instanceof MorphiaProxy) {
+            return entity;
+        }
+        final MappedClass mappedClass = mapper.getMappedClass(entity.getClass());
+        final Object id = mappedClass != null && mappedClass.getIdField() != null ? mapper.getId(entity) : null;
+        if (id == null) {
+            return entity;
+        }
+        return (T) entities.computeIfAbsent(mappedClass.getCollectionName(), k -> new ConcurrentHashMap<>())
+                           .merge(id, entity, (held, loaded) -> held);
+    }
+
+    /**
+     * Removes an entity from this map
+     *
+     * @param entity the entity to evict
+     */
+    public void invalidate(final Object entity) {
+        final MappedClass mappedClass = entity != null ? mapper.getMappedClass(entity.getClass()) : null;
+        if (mappedClass == null) {
+            return;
+        }
+        final Object id = mappedClass.getIdField() != null ? mapper.getId(entity) : null;
+        final Map<Object, Object> loaded = entities.get(mappedClass.getCollectionName());
+        if (loaded != null && id != null) {
+            loaded.remove(id);
+        }
+    }
+
+    /**
+     * Removes every entity loaded from a collection
+     *
+     * @param collection the collection to evict
+     */
+    public void invalidate(final String collection) {
+        entities.remove(collection);
+    }
+
+    /**
+     * Removes all loaded entities
+     */
+    public void clear() {
+        entities.clear();
+    }
+
+    /**
+     * Wraps a cursor so that its results are resolved against this map
+     *
+     * @param cursor the cursor to wrap
+     * @param <T>    the entity type
+     * @return the wrapped cursor
+     */
+    public <T> MongoCursor<T> track(final MongoCursor<T> cursor) {
+        return new TrackingCursor<>(cursor);
+    }
+
+    private class TrackingCursor<T> implements MongoCursor<T> {
+        private final MongoCursor<T> wrapped;
+
+        TrackingCursor(final MongoCursor<T> wrapped) {
+            this.wrapped = wrapped;
+        }
+
+        @Override
+        public void close() {
+            wrapped.close();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return apply(wrapped::hasNext);
+        }
+
+        @Override
+        public T next() {
+            return register(apply(wrapped::next));
+        }
+
+        @Override
+        public T tryNext() {
+            return register(apply(wrapped::tryNext));
+        }
+
+        @Override
+        public ServerCursor getServerCursor() {
+            return wrapped.getServerCursor();
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return wrapped.getServerAddress();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
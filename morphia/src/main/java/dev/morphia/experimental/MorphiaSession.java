@@ -9,4 +9,15 @@ import dev.morphia.AdvancedDatastore;
  * @morphia.experimental
  */
 public interface MorphiaSession extends AdvancedDatastore, ClientSession {
+    /**
+     * Enables or disables the identity map for this session.  While enabled, each entity loaded through this session is kept by
+     * collection and ID so that later loads of the same document, including references and lazy proxies, return the same instance
+     * and references already loaded are not fetched from the server again.  Writes issued through this session evict the entities
+     * they affect.
+     *
+     * @param enabled true to track loaded entities
+     * @return this
+     * @since 2.0
+     */
+    MorphiaSession identityMap(boolean enabled);
 }
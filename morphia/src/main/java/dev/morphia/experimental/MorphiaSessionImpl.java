@@ -35,37 +35,50 @@ public class MorphiaSessionImpl extends BaseMorphiaSession {
 
     @Override
     public <T> void insert(final T entity, final InsertOneOptions options) {
+        invalidate(entity);
         super.insert(entity, new InsertOneOptions(options)
                                  .clientSession(findSession(options)));
     }
 
     @Override
     public <T> void insert(final List<T> entities, final InsertManyOptions options) {
+        entities.forEach(this::invalidate);
         super.insert(entities, new InsertManyOptions(options)
                                    .clientSession(findSession(options)));
     }
 
     @Override
     public <T> DeleteResult delete(final T entity, final DeleteOptions options) {
+        invalidate(entity);
         return super.delete(entity, new DeleteOptions(options)
                                         .clientSession(findSession(options)));
     }
 
     @Override
     public <T> T merge(final T entity, final InsertOneOptions options) {
+        invalidate(entity);
         return super.merge(entity, new InsertOneOptions(options)
                                        .clientSession(findSession(options)));
     }
 
     @Override
     public <T> List<T> save(final List<T> entities, final InsertManyOptions options) {
+        entities.forEach(this::invalidate);
         return super.save(entities, new InsertManyOptions(options)
                                         .clientSession(findSession(options)));
     }
 
     @Override
     public <T> T save(final T entity, final InsertOneOptions options) {
+        invalidate(entity);
         return super.save(entity, new InsertOneOptions(options)
                                       .clientSession(findSession(options)));
     }
+
+    private void invalidate(final Object entity) {
+        final IdentityMap identityMap = getIdentityMap();
+        if (identityMap != null) {
+            identityMap.invalidate(entity);
+        }
+    }
 }
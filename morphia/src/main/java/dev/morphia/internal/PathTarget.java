@@ -16,24 +16,26 @@
 
 package dev.morphia.internal;
 
+import dev.morphia.internal.PathTargetCache.Resolution;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.MappedField;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.ValidationException;
 import dev.morphia.sofia.Sofia;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.StringJoiner;
 
-import static java.util.Arrays.asList;
-
 /**
  * @morphia.internal
  * @since 1.3
  */
 public class PathTarget {
-    private final List<String> segments;
+    private final String path;
+    private List<String> segments;
+    private String translated;
     private boolean validateNames;
     private int position;
     private Mapper mapper;
@@ -63,7 +65,7 @@ public class PathTarget {
      * @param validateNames true if names should be validated
      */
     public PathTarget(final Mapper mapper, final MappedClass root, final String path, final boolean validateNames) {
-        segments = asList(path.split("\\."));
+        this.path = path;
         this.root = root;
         this.mapper = mapper;
         this.validateNames = validateNames;
@@ -104,6 +106,12 @@ public class PathTarget {
         if (!resolved) {
             resolve();
         }
+        if (translated != null) {
+            return translated;
+        }
+        if (segments == null) {
+            return path;
+        }
         StringJoiner joiner = new StringJoiner(".");
         segments.forEach(s -> joiner.add(s));
         return joiner.toString();
@@ -123,7 +131,8 @@ public class PathTarget {
 
     @Override
     public String toString() {
-        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(), segments, target);
+        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getType().getSimpleName(),
+            split(translated != null ? translated : path), target);
     }
 
     private boolean hasNext() {
@@ -131,13 +140,23 @@ public class PathTarget {
     }
 
     private void resolve() {
+        PathTargetCache cache = mapper.getPathTargetCache();
+        Resolution resolution = cache.get(root, path, validateNames);
+        if (resolution != null) {
+            translated = resolution.getTranslatedPath();
+            target = resolution.getTarget();
+            resolved = true;
+            return;
+        }
+
+        segments = split(path);
         context = this.root;
         position = 0;
         MappedField field = null;
         while (hasNext()) {
             String segment = next();
 
-            if ("$".equals(segment) || segment.matches("[0-9]+")) {  // array operator
+            if ("$".equals(segment) || isIndex(segment)) {  // array operator
                 if (!hasNext()) {
                     break;
                 }
@@ -161,6 +180,39 @@ public class PathTarget {
         }
         target = field;
         resolved = true;
+        translated = translatedPath();
+        if (target != null) {
+            cache.put(root, path, validateNames, new Resolution(translated, target));
+        }
+    }
+
+    private static List<String> split(final String path) {
+        List<String> list = new ArrayList<>();
+        int start = 0;
+        int end;
+        while ((end = path.indexOf('.', start)) != -1) {
+            list.add(path.substring(start, end));
+            start = end + 1;
+        }
+        list.add(path.substring(start));
+        // match String.split() which drops trailing empty segments
+        while (list.size() > 1 && list.get(list.size() - 1).isEmpty()) {
+            list.remove(list.size() - 1);
+        }
+        return list;
+    }
+
+    private static boolean isIndex(final String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     private void failValidation() {
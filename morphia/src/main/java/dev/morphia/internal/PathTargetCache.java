@@ -0,0 +1,120 @@
+package dev.morphia.internal;
+
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.MappedField;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the resolved form of paths so that repeated queries and updates against the same fields don't walk the mapping again.  Only
+ * paths that resolve to a mapped field are cached.  The cache holds at most a fixed number of entries and drops existing entries to make
+ * room for new ones.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+public class PathTargetCache {
+    private static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Map<Key, Resolution> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /**
+     * Creates a cache with the default size
+     */
+    public PathTargetCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache holding at most the given number of paths
+     *
+     * @param maxSize the maximum number of paths to keep
+     */
+    public PathTargetCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Removes all cached paths.  This is necessary when new types are mapped since paths may resolve through subtypes.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * @return the number of cached paths
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    Resolution get(final MappedClass root, final String path, final boolean validateNames) {
+        return cache.get(new Key(root, path, validateNames));
+    }
+
+    void put(final MappedClass root, final String path, final boolean validateNames, final Resolution resolution) {
+        if (cache.size() >= maxSize) {
+            Iterator<Key> iterator = cache.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        cache.put(new Key(root, path, validateNames), resolution);
+    }
+
+    static final class Resolution {
+        private final String translatedPath;
+        private final MappedField target;
+
+        Resolution(final String translatedPath, final MappedField target) {
+            this.translatedPath = translatedPath;
+            this.target = target;
+        }
+
+        String getTranslatedPath() {
+            return translatedPath;
+        }
+
+        MappedField getTarget() {
+            return target;
+        }
+    }
+
+    private static final class Key {
+        private final MappedClass root;
+        private final String path;
+        private final boolean validateNames;
+
+        private Key(final MappedClass root, final String path, final boolean validateNames) {
+            this.root = root;
+            this.path = path;
+            this.validateNames = validateNames;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return validateNames == that.validateNames
+                   && path.equals(that.path)
+                   && Objects.equals(root, that.root);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = root != null ? root.hashCode() : 0;
+            result = 31 * result + path.hashCode();
+            return 31 * result + (validateNames ? 1 : 0);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package dev.morphia.mapping;
+
+import dev.morphia.mapping.codec.ArrayFieldAccessor;
+import dev.morphia.mapping.codec.FieldAccessor;
+import dev.morphia.mapping.codec.MethodHandleAccessor;
+import dev.morphia.mapping.codec.pojo.FieldModelBuilder;
+import org.bson.codecs.pojo.PropertyAccessor;
+
+import java.lang.reflect.Field;
+
+/**
+ * Defines how mapped fields are read and written when encoding and decoding entities.
+ *
+ * @since 2.0
+ */
+public abstract class AccessorStrategy {
+    /**
+     * Defines a strategy that uses {@link java.lang.invoke.MethodHandle}s bound when the entity is mapped.  Fields of type {@code int},
+     * {@code long}, {@code double}, and {@code boolean} are read without boxing when encoded with the default codecs.
+     *
+     * @return the strategy
+     */
+    public static AccessorStrategy methodHandles() {
+        return new AccessorStrategy() {
+            @Override
+            protected FieldAccessor create(final Field field) {
+                return new MethodHandleAccessor(field);
+            }
+        };
+    }
+
+    /**
+     * Defines a strategy that uses {@link Field#get(Object)} and {@link Field#set(Object, Object)}
+     *
+     * @return the strategy
+     */
+    public static AccessorStrategy reflection() {
+        return new AccessorStrategy() {
+            @Override
+            protected FieldAccessor create(final Field field) {
+                return new FieldAccessor(field);
+            }
+        };
+    }
+
+    /**
+     * Creates the accessor for a field
+     *
+     * @param builder the field to access
+     * @return the accessor
+     * @morphia.internal
+     */
+    public PropertyAccessor<?> apply(final FieldModelBuilder<?> builder) {
+        Field field = builder.getField();
+        FieldAccessor accessor = create(field);
+        return field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)
+               ? new ArrayFieldAccessor(builder.getTypeData(), accessor)
+               : accessor;
+    }
+
+    /**
+     * Creates the accessor used for a field.  Array fields other than {@code byte[]} are wrapped by {@link #apply(FieldModelBuilder)}
+     * so implementations only need to handle reading and writing the field itself.
+     *
+     * @param field the field to access
+     * @return the accessor
+     */
+    protected abstract FieldAccessor create(Field field);
+}
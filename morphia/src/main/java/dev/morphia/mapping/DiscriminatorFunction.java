@@ -3,12 +3,42 @@ package dev.morphia.mapping;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
+import dev.morphia.sofia.Sofia;
+
+import java.util.HashSet;
+import java.util.Map;
 
 /**
  * Defines a function to calculate a discriminator value.  This function is only applied if the existing value is the annotation default
  * value.
  */
 public abstract class DiscriminatorFunction {
+    /**
+     * Defines a function that uses compact aliases for the discriminator value of the given types, e.g. "A" rather than
+     * "AccountTransferEvent", to shrink the value stored in every document.  Types without an alias use the fallback function.
+     * <p>
+     * Existing documents keep the discriminator they were written with so aliasing a type that already has stored documents requires
+     * those documents to be updated to the alias.
+     *
+     * @param aliases  the aliases keyed by type
+     * @param fallback the function to use for types without an alias
+     * @return the function
+     * @since 2.0
+     */
+    public static DiscriminatorFunction aliases(final Map<Class<?>, String> aliases, final DiscriminatorFunction fallback) {
+        final Map<Class<?>, String> table = Map.copyOf(aliases);
+        if (new HashSet<>(table.values()).size() != table.size()) {
+            throw new IllegalArgumentException(Sofia.duplicateDiscriminatorAlias(table));
+        }
+        return new DiscriminatorFunction() {
+            @Override
+            public String compute(final EntityModelBuilder<?> builder) {
+                final String alias = table.get(builder.getType());
+                return alias != null ? alias : fallback.compute(builder);
+            }
+        };
+    }
+
     /**
      * Defines a function to use the class name for the discriminator value
      *
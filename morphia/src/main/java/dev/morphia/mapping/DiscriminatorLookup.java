@@ -31,7 +31,14 @@ import static java.lang.String.format;
  * @morphia.internal
  */
 public final class DiscriminatorLookup {
+    /**
+     * The most unresolved discriminators remembered.  Further misses are not cached so a stream of distinct bad values can not grow the
+     * lookup without bound.
+     */
+    static final int MAX_MISSES = 1024;
+
     private final Map<String, Class<?>> discriminatorClassMap = new ConcurrentHashMap<String, Class<?>>();
+    private final Set<String> misses = ConcurrentHashMap.newKeySet();
     private final Set<String> packages;
 
     /**
@@ -57,26 +64,34 @@ public final class DiscriminatorLookup {
     public void addModel(final EntityModel<?> entityModel) {
         if (entityModel.getDiscriminator() != null) {
             discriminatorClassMap.put(entityModel.getDiscriminator(), entityModel.getType());
+            misses.remove(entityModel.getDiscriminator());
         }
     }
 
     /**
-     * Looks up a discriminator value
+     * Looks up a discriminator value.  Values that could not be resolved are remembered, up to {@value #MAX_MISSES} of them, and fail
+     * fast on later lookups until a model with that discriminator is added.
      *
      * @param discriminator the value to search witih
      * @return the mapped class
      */
     public Class<?> lookup(final String discriminator) {
-        if (discriminatorClassMap.containsKey(discriminator)) {
-            return discriminatorClassMap.get(discriminator);
+        Class<?> clazz = discriminatorClassMap.get(discriminator);
+        if (clazz != null) {
+            return clazz;
         }
 
-        Class<?> clazz = getClassForName(discriminator);
-        if (clazz == null) {
-            clazz = searchPackages(discriminator);
+        if (!misses.contains(discriminator)) {
+            clazz = getClassForName(discriminator);
+            if (clazz == null) {
+                clazz = searchPackages(discriminator);
+            }
         }
 
         if (clazz == null) {
+            if (misses.size() < MAX_MISSES) {
+                misses.add(discriminator);
+            }
             throw new CodecConfigurationException(format("A class could not be found for the discriminator: '%s'.", discriminator));
         } else {
             discriminatorClassMap.put(discriminator, clazz);
@@ -0,0 +1,19 @@
+package dev.morphia.mapping;
+
+import dev.morphia.annotations.EntityListeners;
+
+/**
+ * Creates the listener instances declared via {@link EntityListeners}.  This can be used, e.g., to retrieve listeners from a dependency
+ * injection container rather than having Morphia instantiate them.
+ *
+ * @since 2.0
+ */
+public interface EntityListenerFactory {
+    /**
+     * Creates or looks up the listener of the given type
+     *
+     * @param type the listener type
+     * @return the listener instance
+     */
+    Object create(Class<?> type);
+}
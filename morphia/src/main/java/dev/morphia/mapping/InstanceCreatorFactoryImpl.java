@@ -3,14 +3,19 @@ package dev.morphia.mapping;
 import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.experimental.ConstructorCreator;
+import dev.morphia.mapping.experimental.ConstructorCreator.BindingPlan;
 import dev.morphia.sofia.Sofia;
 
+import java.lang.invoke.MethodHandle;
+
 /**
  * @param <T>
  * @morphia.internal
  */
 public class InstanceCreatorFactoryImpl<T> implements InstanceCreatorFactory<T> {
     private EntityModel<T> model;
+    private volatile BindingPlan<T> bindingPlan;
+    private volatile MethodHandle noArgsConstructor;
 
     /**
      * Creates a factory for this type
@@ -23,13 +28,21 @@ public class InstanceCreatorFactoryImpl<T> implements InstanceCreatorFactory<T>
 
     @Override
     public MorphiaInstanceCreator<T> create() {
+        if (bindingPlan != null) {
+            return new ConstructorCreator<>(bindingPlan);
+        }
+        if (noArgsConstructor != null) {
+            return new NoArgCreator<>(model.getType(), noArgsConstructor);
+        }
         if (!model.getType().isInterface()) {
             if (ConstructorCreator.getFullConstructor(model) != null) {
-                return new ConstructorCreator<>(model);
+                bindingPlan = BindingPlan.of(model);
+                return new ConstructorCreator<>(bindingPlan);
             }
 
             try {
-                return new NoArgCreator<>(model.getType().getDeclaredConstructor());
+                noArgsConstructor = NoArgCreator.unreflect(model.getType().getDeclaredConstructor());
+                return new NoArgCreator<>(model.getType(), noArgsConstructor);
             } catch (NoSuchMethodException e) {
                 throw new MappingException(Sofia.noargConstructorNotFound(model.getType().getName()));
 
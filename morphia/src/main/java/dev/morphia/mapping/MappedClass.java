@@ -165,6 +165,17 @@ public class MappedClass {
         return entityModel.hasLifecycle(type);
     }
 
+    /**
+     * Checks if any of the lifecycle methods for the given event take the Document form of the entity
+     *
+     * @param type the event type
+     * @return true if a Document is needed for this event
+     * @since 2.0
+     */
+    public boolean usesDocument(final Class<? extends Annotation> type) {
+        return entityModel.usesDocument(type);
+    }
+
     /**
      * Looks for an annotation of the type given
      *
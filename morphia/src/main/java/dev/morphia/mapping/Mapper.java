@@ -2,6 +2,9 @@ package dev.morphia.mapping;
 
 
 import com.mongodb.DBRef;
+import com.mongodb.MongoNamespace;
+import com.mongodb.ReadConcern;
+import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.client.MongoCollection;
 import dev.morphia.Datastore;
@@ -10,20 +13,30 @@ import dev.morphia.Key;
 import dev.morphia.aggregation.experimental.codecs.AggregationCodecProvider;
 import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
+import dev.morphia.internal.PathTargetCache;
 import dev.morphia.mapping.codec.DocumentWriter;
 import dev.morphia.mapping.codec.EnumCodecProvider;
 import dev.morphia.mapping.codec.MorphiaCodecProvider;
 import dev.morphia.mapping.codec.MorphiaTypesCodecProvider;
 import dev.morphia.mapping.codec.PrimitiveCodecProvider;
+import dev.morphia.mapping.codec.pojo.ChangeTracker;
 import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
+import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import dev.morphia.mapping.codec.reader.DocumentReader;
 import dev.morphia.mapping.codec.references.MorphiaProxy;
+import dev.morphia.mapping.codec.references.ReferenceProxyFactory;
 import dev.morphia.sofia.Sofia;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ScanResult;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWrapper;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.codecs.Codec;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
@@ -32,14 +45,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -62,19 +79,44 @@ public class Mapper {
      */
     public static final String IGNORED_FIELDNAME = ".";
 
+    /**
+     * The number of ids fetched per query when refreshing entities
+     */
+    public static final int REFRESH_BATCH_SIZE = 1000;
+
     private static final Logger LOG = LoggerFactory.getLogger(Mapper.class);
 
+    /**
+     * Caches, per type, the class to map for that type or null if the type is not mappable.  Proxies resolve to their superclass.
+     */
+    private static final ClassValue<Class> MAPPABLE_TYPES = new ClassValue<>() {
+        @Override
+        protected Class computeValue(final Class<?> type) {
+            final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
+            return hasAnnotation(actual, List.of(Entity.class, Embedded.class)) ? actual : null;
+        }
+    };
+
     /**
      * Set of classes that registered by this mapper
      */
     private final Map<Class, MappedClass> mappedClasses = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, Set<MappedClass>> mappedClassesByCollection = new ConcurrentHashMap<>();
 
+    /**
+     * Collections configured for each mapped type so they aren't rebuilt for every operation
+     */
+    private final Map<Class, MongoCollection> collections = new ConcurrentHashMap<>();
+    private final Map<CollectionKey, MongoCollection> configuredCollections = new ConcurrentHashMap<>();
+
     //EntityInterceptors; these are called after EntityListeners and lifecycle methods on an Entity, for all Entities
     private final List<EntityInterceptor> interceptors = new LinkedList<>();
     private final MapperOptions options;
     private final DiscriminatorLookup discriminatorLookup = new DiscriminatorLookup(Collections.emptyMap(), Collections.emptySet());
     private final MorphiaCodecProvider morphiaCodecProvider;
+    private final ReferenceProxyFactory proxyFactory;
+    private final PathTargetCache pathTargetCache = new PathTargetCache();
+    private final ChangeTracker changeTracker = new ChangeTracker();
     private Datastore datastore;
     private CodecRegistry codecRegistry;
 
@@ -89,6 +131,7 @@ public class Mapper {
     public Mapper(final Datastore datastore, final CodecRegistry codecRegistry, final MapperOptions options) {
         this.datastore = datastore;
         this.options = options;
+        proxyFactory = new ReferenceProxyFactory(options.getClassLoader());
         morphiaCodecProvider = new MorphiaCodecProvider(this, datastore);
         this.codecRegistry = fromRegistries(
             new PrimitiveCodecProvider(codecRegistry),
@@ -239,7 +282,55 @@ public class Mapper {
      * @param <T>  the class type
      * @return the collection mapped for this class
      */
+    @SuppressWarnings("unchecked")
     public <T> MongoCollection<T> getCollection(final Class<T> type) {
+        MongoCollection<T> collection = collections.get(type);
+        if (collection == null) {
+            collection = collections.computeIfAbsent(type, t -> createCollection(type));
+        }
+        return collection;
+    }
+
+    /**
+     * Gets the collection mapped for a type with the given overrides applied.  The configured collection is cached so repeated calls with
+     * the same overrides return the same instance.
+     *
+     * @param type           the type look up
+     * @param readPreference the read preference to use or null to use the collection's default
+     * @param readConcern    the read concern to use or null to use the collection's default
+     * @param writeConcern   the write concern to use or null to use the collection's default
+     * @param <T>            the class type
+     * @return the collection mapped for this class
+     * @morphia.internal
+     * @since 2.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> MongoCollection<T> getCollection(final Class<T> type, final ReadPreference readPreference,
+                                                final ReadConcern readConcern, final WriteConcern writeConcern) {
+        if (readPreference == null && readConcern == null && writeConcern == null) {
+            return getCollection(type);
+        }
+        final CollectionKey key = new CollectionKey(type, readPreference, readConcern, writeConcern);
+        MongoCollection<T> collection = configuredCollections.get(key);
+        if (collection == null) {
+            collection = configuredCollections.computeIfAbsent(key, k -> {
+                MongoCollection<T> configured = getCollection(type);
+                if (readPreference != null) {
+                    configured = configured.withReadPreference(readPreference);
+                }
+                if (readConcern != null) {
+                    configured = configured.withReadConcern(readConcern);
+                }
+                if (writeConcern != null) {
+                    configured = configured.withWriteConcern(writeConcern);
+                }
+                return configured;
+            });
+        }
+        return collection;
+    }
+
+    private <T> MongoCollection<T> createCollection(final Class<T> type) {
         MappedClass mappedClass = getMappedClass(type);
         if (mappedClass == null) {
             throw new MappingException(Sofia.notMappable(type.getName()));
@@ -250,13 +341,40 @@ public class Mapper {
 
         MongoCollection<T> collection = datastore.getDatabase().getCollection(mappedClass.getCollectionName(), type);
 
-        Entity annotation = mappedClass.getEntityAnnotation();
-        if (annotation != null && WriteConcern.valueOf(annotation.concern()) != null) {
-            collection = collection.withWriteConcern(WriteConcern.valueOf(annotation.concern()));
+        WriteConcern writeConcern = getWriteConcern(type);
+        if (writeConcern != null) {
+            collection = collection.withWriteConcern(writeConcern);
         }
         return collection;
     }
 
+    /**
+     * @return the tracker of loaded entity state used when {@link MapperOptions#isTrackChanges()} is enabled
+     * @morphia.internal
+     * @since 2.0
+     */
+    public ChangeTracker getChangeTracker() {
+        return changeTracker;
+    }
+
+    /**
+     * @return the cache of resolved field paths
+     * @morphia.internal
+     * @since 2.0
+     */
+    public PathTargetCache getPathTargetCache() {
+        return pathTargetCache;
+    }
+
+    /**
+     * @return the factory for lazy reference proxies
+     * @morphia.internal
+     * @since 2.0
+     */
+    public ReferenceProxyFactory getProxyFactory() {
+        return proxyFactory;
+    }
+
     /**
      * @return the DiscriminatorLookup in use
      */
@@ -370,13 +488,19 @@ public class Mapper {
      * @return the MappedClass for the object given
      */
     public MappedClass getMappedClass(final Class type) {
-
-        if (type == null || !isMappable(type)) {
+        if (type == null) {
             return null;
         }
+        MappedClass mc = mappedClasses.get(type);
+        if (mc != null) {
+            return mc;
+        }
 
-        final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
-        MappedClass mc = mappedClasses.get(actual);
+        final Class actual = MAPPABLE_TYPES.get(type);
+        if (actual == null) {
+            return null;
+        }
+        mc = mappedClasses.get(actual);
         if (mc == null) {
             mc = addMappedClass(actual);
         }
@@ -446,6 +570,20 @@ public class Mapper {
         return !interceptors.isEmpty();
     }
 
+    /**
+     * @return true if any of the global interceptors need the Document form of the entity
+     * @see EntityInterceptor#usesDocument()
+     * @since 2.0
+     */
+    public boolean hasDocumentInterceptors() {
+        for (final EntityInterceptor interceptor : interceptors) {
+            if (interceptor.usesDocument()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Checks if a type is mappable or not
      *
@@ -454,8 +592,7 @@ public class Mapper {
      * @return true if the type is mappable
      */
     public <T> boolean isMappable(final Class<T> type) {
-        final Class actual = MorphiaProxy.class.isAssignableFrom(type) ? type.getSuperclass() : type;
-        return hasAnnotation(actual, List.of(Entity.class, Embedded.class));
+        return MAPPABLE_TYPES.get(type) != null;
     }
 
     /**
@@ -491,6 +628,29 @@ public class Mapper {
                       .collect(Collectors.toList());
     }
 
+    /**
+     * Builds the codecs, instance creators, and lifecycle metadata of every mapped type.  These are otherwise built the first time a
+     * type is read or written.  They are safe to build from many threads at once but calling this once mapping is complete moves that
+     * cost out of the first requests so that concurrent requests only ever read from these caches.
+     *
+     * @since 2.0
+     */
+    public void warmUp() {
+        for (final MappedClass mappedClass : getMappedClasses()) {
+            final Class<?> type = mappedClass.getType();
+            final EntityModel<?> model = mappedClass.getEntityModel();
+            codecRegistry.get(type);
+            model.getLifecycleMethods();
+            if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+                try {
+                    model.getInstanceCreator();
+                } catch (MappingException ignored) {
+                    // the type can't be instantiated so it will fail the same way if it is ever read
+                }
+            }
+        }
+    }
+
     /**
      * Tries to map all classes in the package specified.
      *
@@ -535,15 +695,50 @@ public class Mapper {
      * @param <T>    the entity type
      */
     public <T> void refresh(final T entity) {
-        Codec<T> refreshCodec = morphiaCodecProvider.getRefreshCodec(entity, getCodecRegistry());
+        refresh(List.of(entity));
+    }
 
-        MongoCollection<?> collection = getCollection(entity.getClass());
-        Document id = collection.find(new Document("_id", getMappedClass(entity.getClass())
-                                                              .getIdField()
-                                                              .getFieldValue(entity)), Document.class)
-                                .first();
+    /**
+     * Refreshes entities with their current state in the database.  The entities are fetched with one query per collection for each
+     * batch of {@value #REFRESH_BATCH_SIZE} ids and decoded in to the existing instances.  Entities whose documents no longer exist
+     * are left unchanged.
+     *
+     * @param entities the entities to refresh
+     * @param <T>      the entity type
+     * @since 2.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void refresh(final Collection<T> entities) {
+        final Map<MongoNamespace, MongoCollection<?>> collections = new LinkedHashMap<>();
+        final Map<MongoNamespace, Map<BsonValue, List<T>>> grouped = new LinkedHashMap<>();
+        for (final T entity : entities) {
+            final MongoCollection<?> collection = getCollection(entity.getClass());
+            final Object id = getMappedClass(entity.getClass()).getIdField().getFieldValue(entity);
+            if (id == null) {
+                throw new MappingException(Sofia.noIdForRefresh(entity.getClass().getName()));
+            }
+            collections.putIfAbsent(collection.getNamespace(), collection);
+            grouped.computeIfAbsent(collection.getNamespace(), n -> new LinkedHashMap<>())
+                   .computeIfAbsent(BsonDocumentWrapper.asBsonDocument(new Document("_id", id), codecRegistry).get("_id"),
+                       i -> new ArrayList<>(1))
+                   .add(entity);
+        }
 
-        refreshCodec.decode(new DocumentReader(id), DecoderContext.builder().checkedDiscriminator(true).build());
+        for (final Entry<MongoNamespace, Map<BsonValue, List<T>>> entry : grouped.entrySet()) {
+            final MongoCollection<RawBsonDocument> collection = collections.get(entry.getKey())
+                                                                           .withDocumentClass(RawBsonDocument.class);
+            final Map<BsonValue, List<T>> byId = entry.getValue();
+            final List<BsonValue> ids = new ArrayList<>(byId.keySet());
+            for (int start = 0; start < ids.size(); start += REFRESH_BATCH_SIZE) {
+                final BsonArray batch = new BsonArray(ids.subList(start, Math.min(ids.size(), start + REFRESH_BATCH_SIZE)));
+                for (final RawBsonDocument document : collection.find(new BsonDocument("_id", new BsonDocument("$in", batch)))) {
+                    for (final T entity : byId.getOrDefault(document.get("_id"), List.of())) {
+                        final MorphiaCodec<T> codec = (MorphiaCodec<T>) codecRegistry.get(entity.getClass());
+                        codec.decodeInto(new BsonBinaryReader(document.getByteBuffer().asNIO()), entity);
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -608,6 +803,10 @@ public class Mapper {
         if (!mc.isInterface()) {
             mc.validate(this);
         }
+        if (options.isPrebuildProxies()) {
+            proxyFactory.prebuild(mc);
+        }
+        pathTargetCache.clear();
 
         return mc;
     }
@@ -634,7 +833,7 @@ public class Mapper {
         return classes;
     }
 
-    private <T> boolean hasAnnotation(final Class<T> clazz, final List<Class<? extends Annotation>> annotations) {
+    private static <T> boolean hasAnnotation(final Class<T> clazz, final List<Class<? extends Annotation>> annotations) {
         if (clazz == null) {
             return false;
         }
@@ -653,4 +852,39 @@ public class Mapper {
     <T> Key<T> manualRefToKey(final String collection, final Object id) {
         return id == null ? null : new Key<>((Class<? extends T>) getClassFromCollection(collection), collection, id);
     }
+
+    private static final class CollectionKey {
+        private final Class<?> type;
+        private final ReadPreference readPreference;
+        private final ReadConcern readConcern;
+        private final WriteConcern writeConcern;
+
+        private CollectionKey(final Class<?> type, final ReadPreference readPreference, final ReadConcern readConcern,
+                              final WriteConcern writeConcern) {
+            this.type = type;
+            this.readPreference = readPreference;
+            this.readConcern = readConcern;
+            this.writeConcern = writeConcern;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CollectionKey)) {
+                return false;
+            }
+            final CollectionKey that = (CollectionKey) o;
+            return type.equals(that.type)
+                   && Objects.equals(readPreference, that.readPreference)
+                   && Objects.equals(readConcern, that.readConcern)
+                   && Objects.equals(writeConcern, that.writeConcern);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, readPreference, readConcern, writeConcern);
+        }
+    }
 }
@@ -29,7 +29,11 @@ public class MapperOptions {
     private final boolean storeEmpties;
     private final boolean cacheClassLookups;
     private final boolean mapSubPackages;
+    private final boolean prebuildProxies;
+    private final boolean trackChanges;
     private final MorphiaInstanceCreator creator;
+    private final AccessorStrategy accessorStrategy;
+    private final EntityListenerFactory listenerFactory;
     private final String discriminatorKey;
     private final DiscriminatorFunction discriminator;
     private final List<MorphiaConvention> conventions;
@@ -45,7 +49,11 @@ public class MapperOptions {
         storeEmpties = builder.storeEmpties;
         cacheClassLookups = builder.cacheClassLookups;
         mapSubPackages = builder.mapSubPackages;
+        prebuildProxies = builder.prebuildProxies;
+        trackChanges = builder.trackChanges;
         creator = builder.creator;
+        accessorStrategy = builder.accessorStrategy;
+        listenerFactory = builder.listenerFactory;
         classLoader = builder.classLoader;
         discriminatorKey = builder.discriminatorKey;
         discriminator = builder.discriminator;
@@ -86,11 +94,23 @@ public class MapperOptions {
         builder.storeEmpties = original.isStoreEmpties();
         builder.cacheClassLookups = original.isCacheClassLookups();
         builder.mapSubPackages = original.isMapSubPackages();
+        builder.prebuildProxies = original.isPrebuildProxies();
+        builder.trackChanges = original.isTrackChanges();
         builder.creator = original.getCreator();
+        builder.accessorStrategy = original.getAccessorStrategy();
+        builder.listenerFactory = original.getListenerFactory();
         builder.classLoader = original.getClassLoader();
         return builder;
     }
 
+    /**
+     * @return the strategy to use when reading and writing mapped fields
+     * @since 2.0
+     */
+    public AccessorStrategy getAccessorStrategy() {
+        return accessorStrategy;
+    }
+
     /**
      * Returns the classloader used, in theory, when loading the entity types.
      *
@@ -148,6 +168,14 @@ public class MapperOptions {
         return fieldNaming;
     }
 
+    /**
+     * @return the factory used to create entity listeners or null if the listeners' no-arg constructors should be used
+     * @since 2.0
+     */
+    public EntityListenerFactory getListenerFactory() {
+        return listenerFactory;
+    }
+
     /**
      * @return the query factory used by the Datastore
      * @since 2.0
@@ -184,6 +212,14 @@ public class MapperOptions {
         return mapSubPackages;
     }
 
+    /**
+     * @return true if the proxy types for lazy references should be generated when an entity is mapped rather than on first use
+     * @since 2.0
+     */
+    public boolean isPrebuildProxies() {
+        return prebuildProxies;
+    }
+
     /**
      * @return true if Morphia should store empty values for lists/maps/sets/arrays
      */
@@ -198,6 +234,14 @@ public class MapperOptions {
         return storeNulls;
     }
 
+    /**
+     * @return true if loaded entities are tracked so that saving them only writes the fields that changed
+     * @since 2.0
+     */
+    public boolean isTrackChanges() {
+        return trackChanges;
+    }
+
     /**
      * A builder class for setting mapping options
      */
@@ -209,7 +253,11 @@ public class MapperOptions {
         private boolean storeEmpties;
         private boolean cacheClassLookups;
         private boolean mapSubPackages;
+        private boolean prebuildProxies;
+        private boolean trackChanges;
         private MorphiaInstanceCreator creator;
+        private AccessorStrategy accessorStrategy = AccessorStrategy.reflection();
+        private EntityListenerFactory listenerFactory;
         private ClassLoader classLoader;
         private String discriminatorKey = "_t";
         private DiscriminatorFunction discriminator = DiscriminatorFunction.simpleName();
@@ -222,6 +270,19 @@ public class MapperOptions {
         private Builder() {
         }
 
+        /**
+         * Sets the strategy to use when reading and writing mapped fields
+         *
+         * @param strategy the strategy to use
+         * @return this
+         * @see AccessorStrategy#methodHandles()
+         * @since 2.0
+         */
+        public Builder accessorStrategy(final AccessorStrategy strategy) {
+            this.accessorStrategy = strategy;
+            return this;
+        }
+
         /**
          * Adds a custom convention to the list to be applied to all new MorphiaModels.
          *
@@ -323,6 +384,19 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Sets the factory to use when creating the listeners declared via {@code @EntityListeners}.  Listeners are created once per
+         * mapped type and reused for every lifecycle event on that type.
+         *
+         * @param factory the factory to use
+         * @return this
+         * @since 2.0
+         */
+        public Builder listenerFactory(final EntityListenerFactory factory) {
+            this.listenerFactory = factory;
+            return this;
+        }
+
         /**
          * @param mapSubPackages if true subpackages are mapped when given a particular package
          * @return this
@@ -341,6 +415,19 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Generates the proxy types needed for any lazy references when an entity is mapped rather than on the first decode of the
+         * reference.
+         *
+         * @param prebuildProxies if true, lazy reference proxy types are generated at mapping time
+         * @return this
+         * @since 2.0
+         */
+        public Builder prebuildProxies(final boolean prebuildProxies) {
+            this.prebuildProxies = prebuildProxies;
+            return this;
+        }
+
         /**
          * @param queryFactory the query factory to use when creating queries
          * @return this
@@ -368,6 +455,20 @@ public class MapperOptions {
             return this;
         }
 
+        /**
+         * Records the state of each entity as it is loaded so that saving it later sends a {@code $set} and {@code $unset} of only the
+         * fields that changed rather than the whole document.  Entities that were not loaded, or whose document has since been
+         * removed, are saved in full.
+         *
+         * @param trackChanges if true, saving a loaded entity only writes its changed fields
+         * @return this
+         * @since 2.0
+         */
+        public Builder trackChanges(final boolean trackChanges) {
+            this.trackChanges = trackChanges;
+            return this;
+        }
+
         /**
          * @param useLowerCaseCollectionNames if true, generated collections names are lower cased
          * @return this
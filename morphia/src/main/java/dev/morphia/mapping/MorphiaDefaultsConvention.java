@@ -8,16 +8,14 @@ import dev.morphia.annotations.Handler;
 import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Transient;
 import dev.morphia.annotations.experimental.IdField;
-import dev.morphia.mapping.codec.ArrayFieldAccessor;
-import dev.morphia.mapping.codec.FieldAccessor;
 import dev.morphia.mapping.codec.MorphiaPropertySerialization;
 import dev.morphia.mapping.codec.pojo.EntityModelBuilder;
 import dev.morphia.mapping.codec.pojo.FieldModelBuilder;
-import org.bson.codecs.pojo.PropertyAccessor;
 import org.bson.codecs.pojo.TypeData;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
 import java.util.Iterator;
 
@@ -103,7 +101,7 @@ public class MorphiaDefaultsConvention implements MorphiaConvention {
 
         builder
             .serialization(new MorphiaPropertySerialization(options, builder))
-            .accessor(getAccessor(field, builder));
+            .accessor(options.getAccessorStrategy().apply(builder));
         configureCodec(datastore, builder, field);
 
         if (isNotConcrete(builder.getTypeData())) {
@@ -111,12 +109,6 @@ public class MorphiaDefaultsConvention implements MorphiaConvention {
         }
     }
 
-    private PropertyAccessor<?> getAccessor(final Field field, final FieldModelBuilder<?> property) {
-        return field.getType().isArray() && !field.getType().getComponentType().equals(byte.class)
-               ? new ArrayFieldAccessor(property.getTypeData(), field)
-               : new FieldAccessor(field);
-    }
-
     private void configureCodec(final Datastore datastore, final FieldModelBuilder<?> builder, final Field field) {
         Handler handler = getHandler(builder);
         if (handler != null) {
@@ -124,6 +116,11 @@ public class MorphiaDefaultsConvention implements MorphiaConvention {
                 builder.codec(handler.value()
                                      .getDeclaredConstructor(Datastore.class, Field.class, TypeData.class)
                                      .newInstance(datastore, field, builder.getTypeData()));
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof MappingException) {
+                    throw (MappingException) e.getCause();
+                }
+                throw new MappingException(e.getMessage(), e);
             } catch (ReflectiveOperationException e) {
                 throw new MappingException(e.getMessage(), e);
             }
@@ -151,6 +148,9 @@ public class MorphiaDefaultsConvention implements MorphiaConvention {
             if (handler == null) {
                 for (Annotation annotation : builder.getAnnotations()) {
                     handler = annotation.annotationType().getAnnotation(Handler.class);
+                    if (handler != null) {
+                        break;
+                    }
                 }
             }
         }
@@ -4,6 +4,9 @@ import dev.morphia.mapping.codec.MorphiaInstanceCreator;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.sofia.Sofia;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 
 /**
@@ -12,7 +15,8 @@ import java.lang.reflect.Constructor;
  */
 public class NoArgCreator<E> implements MorphiaInstanceCreator<E> {
     private E instance;
-    private Constructor<E> noArgsConstructor;
+    private final Class<E> type;
+    private final MethodHandle noArgsConstructor;
 
     /**
      * Creates the creator
@@ -20,8 +24,35 @@ public class NoArgCreator<E> implements MorphiaInstanceCreator<E> {
      * @param noArgsConstructor the constructor
      */
     public NoArgCreator(final Constructor<E> noArgsConstructor) {
+        this(noArgsConstructor.getDeclaringClass(), unreflect(noArgsConstructor));
+    }
+
+    /**
+     * Creates the creator
+     *
+     * @param type              the type to create
+     * @param noArgsConstructor the constructor as returned by {@link #unreflect(Constructor)}
+     */
+    public NoArgCreator(final Class<E> type, final MethodHandle noArgsConstructor) {
+        this.type = type;
         this.noArgsConstructor = noArgsConstructor;
-        this.noArgsConstructor.setAccessible(true);
+    }
+
+    /**
+     * Converts a no argument constructor in to a handle suitable for sharing between creators
+     *
+     * @param noArgsConstructor the constructor
+     * @return the handle
+     */
+    public static MethodHandle unreflect(final Constructor<?> noArgsConstructor) {
+        noArgsConstructor.setAccessible(true);
+        try {
+            return MethodHandles.lookup()
+                                .unreflectConstructor(noArgsConstructor)
+                                .asType(MethodType.methodType(Object.class));
+        } catch (IllegalAccessException e) {
+            throw new MappingException(Sofia.instantiationProblem(noArgsConstructor.getDeclaringClass().getName(), e.getMessage()), e);
+        }
     }
 
     @Override
@@ -29,12 +60,13 @@ public class NoArgCreator<E> implements MorphiaInstanceCreator<E> {
         model.getAccessor().set(instance(), value);
     }
 
+    @SuppressWarnings("unchecked")
     private E instance() {
         if (instance == null) {
             try {
-                instance = noArgsConstructor.newInstance();
-            } catch (ReflectiveOperationException e) {
-                throw new MappingException(Sofia.instantiationProblem(noArgsConstructor.getDeclaringClass().getName(), e.getMessage()), e);
+                instance = (E) noArgsConstructor.invokeExact();
+            } catch (Throwable e) {
+                throw new MappingException(Sofia.instantiationProblem(type.getName(), e.getMessage()), e);
             }
         }
         return instance;
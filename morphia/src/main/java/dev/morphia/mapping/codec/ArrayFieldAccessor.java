@@ -15,6 +15,7 @@ public class ArrayFieldAccessor extends FieldAccessor {
 
     private TypeData typeData;
     private Class<?> componentType;
+    private FieldAccessor delegate;
 
     /**
      * Creates the accessor
@@ -28,13 +29,34 @@ public class ArrayFieldAccessor extends FieldAccessor {
         componentType = field.getType().getComponentType();
     }
 
+    /**
+     * Creates the accessor
+     *
+     * @param typeData the type data
+     * @param delegate the accessor to use when reading and writing the converted values
+     * @since 2.0
+     */
+    public ArrayFieldAccessor(final TypeData typeData, final FieldAccessor delegate) {
+        this(typeData, delegate.getField());
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object get(final Object instance) {
+        return delegate != null ? delegate.get(instance) : super.get(instance);
+    }
+
     @Override
     public void set(final Object instance, final Object value) {
         Object newValue = value;
         if (value.getClass().getComponentType() != componentType) {
             newValue = value instanceof List ? convert((List) value) : convert((Object[]) value);
         }
-        super.set(instance, newValue);
+        if (delegate != null) {
+            delegate.set(instance, newValue);
+        } else {
+            super.set(instance, newValue);
+        }
     }
 
     private Object convert(final Object[] value) {
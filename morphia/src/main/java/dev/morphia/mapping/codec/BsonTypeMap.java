@@ -1,5 +1,6 @@
 package dev.morphia.mapping.codec;
 
+import org.bson.BsonBinary;
 import org.bson.BsonDbPointer;
 import org.bson.BsonRegularExpression;
 import org.bson.BsonTimestamp;
@@ -32,6 +33,7 @@ public class BsonTypeMap {
     public BsonTypeMap() {
         map.put(List.class, BsonType.ARRAY);
         map.put(Binary.class, BsonType.BINARY);
+        map.put(BsonBinary.class, BsonType.BINARY);
         map.put(Boolean.class, BsonType.BOOLEAN);
         map.put(Date.class, BsonType.DATE_TIME);
         map.put(BsonDbPointer.class, BsonType.DB_POINTER);
@@ -20,7 +20,11 @@ import static java.lang.Boolean.FALSE;
 public final class Conversions {
     private static final Logger LOG = LoggerFactory.getLogger(Conversions.class);
 
-    private static Map<Class<?>, Map<Class<?>, Function<?, ?>>> conversions = new HashMap<>();
+    /**
+     * The conversions by source and then target type.  This is only written to during class initialization so lookups need no
+     * synchronization.
+     */
+    private static final Map<Class<?>, Map<Class<?>, Function<?, ?>>> CONVERSIONS = new HashMap<>();
 
     static {
         registerStringConversions();
@@ -86,10 +90,26 @@ public final class Conversions {
                                               }
                                               return function.apply(f);
                                           };
-        conversions.computeIfAbsent(fromType, (Class<?> c) -> new HashMap<>())
+        CONVERSIONS.computeIfAbsent(fromType, (Class<?> c) -> new HashMap<>())
                    .put(toType, conversion);
     }
 
+    /**
+     * Finds the conversion registered between two types
+     *
+     * @param fromType the type to convert from
+     * @param toType   the type to convert to
+     * @param <F>      the source type
+     * @param <T>      the target type
+     * @return the conversion or null if none is registered
+     * @morphia.internal
+     */
+    @SuppressWarnings("unchecked")
+    public static <F, T> Function<F, T> find(final Class<F> fromType, final Class<T> toType) {
+        final Map<Class<?>, Function<?, ?>> targets = CONVERSIONS.get(fromType);
+        return targets != null ? (Function<F, T>) targets.get(toType) : null;
+    }
+
     /**
      * Attempts to convert a value to the given type
      *
@@ -108,9 +128,8 @@ public final class Conversions {
             return value;
         }
 
-        final Function function = conversions
-                                      .computeIfAbsent(fromType, (f) -> new HashMap<>())
-                                      .get(target);
+        final Map<Class<?>, Function<?, ?>> targets = CONVERSIONS.get(fromType);
+        final Function function = targets != null ? targets.get(target) : null;
         if (function == null) {
             if (target.equals(String.class)) {
                 return value.toString();
@@ -0,0 +1,67 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.Arrays;
+
+/**
+ * Reads and writes {@code double[]} values without boxing the elements.  Elements stored as other numeric types are converted by the
+ * {@code Double} codec.
+ */
+class DoubleArrayCodec implements Codec<double[]> {
+    private final Mapper mapper;
+    private Codec<Double> codec;
+
+    DoubleArrayCodec(final Mapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final double[] value, final EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (final double element : value) {
+            writer.writeDouble(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public double[] decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (reader.getCurrentBsonType() == BsonType.BINARY) {
+            return (double[]) PackedArrayCodec.unpack(reader.readBinaryData(), double.class);
+        }
+        reader.readStartArray();
+
+        double[] values = new double[16];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.DOUBLE
+                             ? reader.readDouble()
+                             : getCodec().decode(reader, decoderContext);
+        }
+
+        reader.readEndArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Class<double[]> getEncoderClass() {
+        return double[].class;
+    }
+
+    private Codec<Double> getCodec() {
+        if (codec == null) {
+            codec = mapper.getCodecRegistry().get(Double.class);
+        }
+        return codec;
+    }
+}
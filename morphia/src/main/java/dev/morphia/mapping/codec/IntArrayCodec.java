@@ -0,0 +1,67 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.Arrays;
+
+/**
+ * Reads and writes {@code int[]} values without boxing the elements.  Elements stored as other numeric types are converted by the
+ * {@code Integer} codec.
+ */
+class IntArrayCodec implements Codec<int[]> {
+    private final Mapper mapper;
+    private Codec<Integer> codec;
+
+    IntArrayCodec(final Mapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final int[] value, final EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (final int element : value) {
+            writer.writeInt32(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public int[] decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (reader.getCurrentBsonType() == BsonType.BINARY) {
+            return (int[]) PackedArrayCodec.unpack(reader.readBinaryData(), int.class);
+        }
+        reader.readStartArray();
+
+        int[] values = new int[16];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.INT32
+                             ? reader.readInt32()
+                             : getCodec().decode(reader, decoderContext);
+        }
+
+        reader.readEndArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Class<int[]> getEncoderClass() {
+        return int[].class;
+    }
+
+    private Codec<Integer> getCodec() {
+        if (codec == null) {
+            codec = mapper.getCodecRegistry().get(Integer.class);
+        }
+        return codec;
+    }
+}
@@ -0,0 +1,67 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.Arrays;
+
+/**
+ * Reads and writes {@code long[]} values without boxing the elements.  Elements stored as other numeric types are converted by the
+ * {@code Long} codec.
+ */
+class LongArrayCodec implements Codec<long[]> {
+    private final Mapper mapper;
+    private Codec<Long> codec;
+
+    LongArrayCodec(final Mapper mapper) {
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final long[] value, final EncoderContext encoderContext) {
+        writer.writeStartArray();
+        for (final long element : value) {
+            writer.writeInt64(element);
+        }
+        writer.writeEndArray();
+    }
+
+    @Override
+    public long[] decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (reader.getCurrentBsonType() == BsonType.BINARY) {
+            return (long[]) PackedArrayCodec.unpack(reader.readBinaryData(), long.class);
+        }
+        reader.readStartArray();
+
+        long[] values = new long[16];
+        int size = 0;
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = reader.getCurrentBsonType() == BsonType.INT64
+                             ? reader.readInt64()
+                             : getCodec().decode(reader, decoderContext);
+        }
+
+        reader.readEndArray();
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Class<long[]> getEncoderClass() {
+        return long[].class;
+    }
+
+    private Codec<Long> getCodec() {
+        if (codec == null) {
+            codec = mapper.getCodecRegistry().get(Long.class);
+        }
+        return codec;
+    }
+}
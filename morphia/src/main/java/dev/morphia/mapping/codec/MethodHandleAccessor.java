@@ -0,0 +1,159 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.mapping.MappingException;
+import org.bson.BsonWriter;
+import org.bson.codecs.BooleanCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DoubleCodec;
+import org.bson.codecs.IntegerCodec;
+import org.bson.codecs.LongCodec;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Accesses a field via {@link MethodHandle}s bound once when the field is mapped.  Fields of type {@code int}, {@code long},
+ * {@code double}, and {@code boolean} can be written to a {@link BsonWriter} without boxing.  Numeric values set on the numeric ones are
+ * converted through {@link Number} so a narrower stored type, e.g. an {@code Integer} in to a {@code long} field, still widens as it did
+ * through reflection.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+public class MethodHandleAccessor extends FieldAccessor {
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final Primitive primitive;
+    private final MethodHandle primitiveGetter;
+    private final MethodHandle primitiveSetter;
+
+    /**
+     * Creates the accessor for a field
+     *
+     * @param field the field itself
+     */
+    public MethodHandleAccessor(final Field field) {
+        super(field);
+        try {
+            field.setAccessible(true);
+            MethodHandle unreflectedGetter = MethodHandles.lookup().unreflectGetter(field);
+            MethodHandle unreflectedSetter = MethodHandles.lookup().unreflectSetter(field);
+            getter = unreflectedGetter.asType(methodType(Object.class, Object.class));
+            setter = unreflectedSetter.asType(methodType(void.class, Object.class, Object.class));
+            primitive = Primitive.of(field.getType());
+            primitiveGetter = primitive != null
+                              ? unreflectedGetter.asType(methodType(field.getType(), Object.class))
+                              : null;
+            primitiveSetter = primitive != null
+                              ? unreflectedSetter.asType(methodType(void.class, Object.class, field.getType()))
+                              : null;
+        } catch (IllegalAccessException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object get(final Object instance) {
+        try {
+            return getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void set(final Object instance, final Object value) {
+        try {
+            if (primitive == null || !(value instanceof Number)) {
+                setter.invokeExact(instance, value);
+                return;
+            }
+            final Number number = (Number) value;
+            switch (primitive) {
+                case INT:
+                    primitiveSetter.invokeExact(instance, number.intValue());
+                    break;
+                case LONG:
+                    primitiveSetter.invokeExact(instance, number.longValue());
+                    break;
+                case DOUBLE:
+                    primitiveSetter.invokeExact(instance, number.doubleValue());
+                    break;
+                default:
+                    setter.invokeExact(instance, value);
+            }
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Checks if the field's value can be written directly rather than through the codec
+     *
+     * @param codec the codec configured for the field
+     * @return true if the field is a primitive type and the codec is the default codec for that type
+     */
+    public boolean canWriteDirectly(final Codec<?> codec) {
+        return primitive != null
+               && codec != null
+               && codec.getClass().equals(primitive.codec);
+    }
+
+    /**
+     * Writes the value of a primitive field without boxing it.  Only valid if {@link #canWriteDirectly(Codec)} is true.
+     *
+     * @param writer   the writer to use
+     * @param instance the instance to read from
+     */
+    public void writeDirectly(final BsonWriter writer, final Object instance) {
+        try {
+            switch (primitive) {
+                case INT:
+                    writer.writeInt32((int) primitiveGetter.invokeExact(instance));
+                    break;
+                case LONG:
+                    writer.writeInt64((long) primitiveGetter.invokeExact(instance));
+                    break;
+                case DOUBLE:
+                    writer.writeDouble((double) primitiveGetter.invokeExact(instance));
+                    break;
+                default:
+                    writer.writeBoolean((boolean) primitiveGetter.invokeExact(instance));
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The primitive field types with typed access paths and the default codec for each
+     */
+    private enum Primitive {
+        INT(int.class, IntegerCodec.class),
+        LONG(long.class, LongCodec.class),
+        DOUBLE(double.class, DoubleCodec.class),
+        BOOLEAN(boolean.class, BooleanCodec.class);
+
+        private final Class<?> type;
+        private final Class<?> codec;
+
+        Primitive(final Class<?> type, final Class<?> codec) {
+            this.type = type;
+            this.codec = codec;
+        }
+
+        private static Primitive of(final Class<?> type) {
+            for (final Primitive primitive : values()) {
+                if (primitive.type == type) {
+                    return primitive;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -1,20 +1,16 @@
 package dev.morphia.mapping.codec;
 
 import dev.morphia.Datastore;
-import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
-import dev.morphia.mapping.codec.pojo.EntityDecoder;
-import dev.morphia.mapping.codec.pojo.EntityModel;
-import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.mapping.codec.pojo.MorphiaCodec;
 import org.bson.codecs.Codec;
 import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PropertyCodecProvider;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provider for codecs for Morphia entities
@@ -22,7 +18,7 @@ import java.util.Map;
  * @morphia.internal
  */
 public class MorphiaCodecProvider implements CodecProvider {
-    private final Map<Class<?>, Codec<?>> codecs = new HashMap<>();
+    private final Map<Class<?>, Codec<?>> codecs = new ConcurrentHashMap<>();
     private final Mapper mapper;
     private final List<PropertyCodecProvider> propertyCodecProviders;
     private final Datastore datastore;
@@ -46,46 +42,16 @@ public class MorphiaCodecProvider implements CodecProvider {
     public <T> MorphiaCodec<T> get(final Class<T> type, final CodecRegistry registry) {
         MorphiaCodec<T> codec = (MorphiaCodec<T>) codecs.get(type);
         if (codec == null && mapper.isMappable(type)) {
+            // Building a codec can look up the codecs of other entities so it can't happen inside computeIfAbsent.  Threads racing to
+            // create the same codec all end up using whichever one was stored first.
             codec = new MorphiaCodec<T>(datastore, mapper.getMappedClass(type), propertyCodecProviders,
                 mapper.getDiscriminatorLookup(), registry);
-            codecs.put(type, codec);
+            final MorphiaCodec<T> existing = (MorphiaCodec<T>) codecs.putIfAbsent(type, codec);
+            if (existing != null) {
+                codec = existing;
+            }
         }
 
         return codec;
     }
-
-    /**
-     * Creates a codec that uses an existing entity for loading rather than creating a new instance.
-     *
-     * @param entity   the entity to refresh
-     * @param registry the codec registry
-     * @param <T>      the entity type
-     * @return the new codec
-     */
-    @SuppressWarnings("unchecked")
-    public <T> Codec<T> getRefreshCodec(final T entity, final CodecRegistry registry) {
-        MappedClass mappedClass = mapper.getMappedClass(entity.getClass());
-        return new MorphiaCodec<T>(datastore, mappedClass, propertyCodecProviders, mapper.getDiscriminatorLookup(), registry) {
-            @Override
-            protected EntityDecoder<T> getDecoder() {
-                return new EntityDecoder<>(this) {
-                    @Override
-                    protected MorphiaInstanceCreator<T> getInstanceCreator(final EntityModel<T> classModel) {
-                        return new MorphiaInstanceCreator<>() {
-                            @Override
-                            public T getInstance() {
-                                return entity;
-                            }
-
-                            @Override
-                            public <S> void set(final S value, final FieldModel<S> model) {
-                                model.getAccessor().set(getInstance(), value);
-                            }
-                        };
-                    }
-                };
-            }
-        };
-    }
-
 }
@@ -0,0 +1,136 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.Datastore;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonBinary;
+import org.bson.BsonBinarySubType;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.pojo.TypeData;
+import org.bson.types.Binary;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Stores arrays of primitive numbers as a binary value holding the elements in little-endian order.
+ *
+ * @morphia.internal
+ * @see dev.morphia.annotations.Packed
+ * @since 2.0
+ */
+@SuppressWarnings("unchecked")
+public class PackedArrayCodec extends PropertyCodec<Object> implements PropertyHandler {
+    static final byte SUBTYPE = BsonBinarySubType.USER_DEFINED.getValue();
+
+    private final Class<?> componentType;
+
+    /**
+     * Creates a codec
+     *
+     * @param datastore the datastore
+     * @param field     the packed field
+     * @param typeData  the field type data
+     */
+    public PackedArrayCodec(final Datastore datastore, final Field field, final TypeData typeData) {
+        super(datastore, field, typeData);
+        final Class<?> type = typeData.getType();
+        if (!type.isArray() || width(type.getComponentType()) == 0) {
+            throw new MappingException(Sofia.packedArrayUnsupportedType(field.getDeclaringClass().getName() + "." + field.getName(),
+                type.getSimpleName()));
+        }
+        componentType = type.getComponentType();
+    }
+
+    static byte[] pack(final Object array) {
+        final Class<?> type = array.getClass().getComponentType();
+        final ByteBuffer buffer = ByteBuffer.allocate(Array.getLength(array) * width(type))
+                                            .order(ByteOrder.LITTLE_ENDIAN);
+        if (type.equals(double.class)) {
+            buffer.asDoubleBuffer().put((double[]) array);
+        } else if (type.equals(long.class)) {
+            buffer.asLongBuffer().put((long[]) array);
+        } else if (type.equals(int.class)) {
+            buffer.asIntBuffer().put((int[]) array);
+        } else if (type.equals(float.class)) {
+            buffer.asFloatBuffer().put((float[]) array);
+        } else {
+            buffer.asShortBuffer().put((short[]) array);
+        }
+        return buffer.array();
+    }
+
+    static Object unpack(final BsonBinary binary, final Class<?> type) {
+        final byte[] data = binary.getData();
+        if (binary.getType() != SUBTYPE || data.length % width(type) != 0) {
+            throw new MappingException(Sofia.packedArrayInvalid(binary.getType() & 0xFF, data.length, type.getSimpleName(),
+                SUBTYPE & 0xFF, width(type)));
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        final int length = data.length / width(type);
+        if (type.equals(double.class)) {
+            final double[] values = new double[length];
+            buffer.asDoubleBuffer().get(values);
+            return values;
+        } else if (type.equals(long.class)) {
+            final long[] values = new long[length];
+            buffer.asLongBuffer().get(values);
+            return values;
+        } else if (type.equals(int.class)) {
+            final int[] values = new int[length];
+            buffer.asIntBuffer().get(values);
+            return values;
+        } else if (type.equals(float.class)) {
+            final float[] values = new float[length];
+            buffer.asFloatBuffer().get(values);
+            return values;
+        } else {
+            final short[] values = new short[length];
+            buffer.asShortBuffer().get(values);
+            return values;
+        }
+    }
+
+    private static int width(final Class<?> type) {
+        if (type.equals(double.class) || type.equals(long.class)) {
+            return 8;
+        } else if (type.equals(int.class) || type.equals(float.class)) {
+            return 4;
+        } else if (type.equals(short.class)) {
+            return 2;
+        }
+        return 0;
+    }
+
+    @Override
+    public Object decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (reader.getCurrentBsonType() == BsonType.BINARY) {
+            return unpack(reader.readBinaryData(), componentType);
+        }
+        return decoderContext.decodeWithChildContext(getDatastore().getMapper().getCodecRegistry().get(getEncoderClass()), reader);
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final Object value, final EncoderContext encoderContext) {
+        writer.writeBinaryData(new BsonBinary(SUBTYPE, pack(value)));
+    }
+
+    @Override
+    public Object encode(final Object value) {
+        return value != null && value.getClass().isArray() && value.getClass().getComponentType().equals(componentType)
+               ? new Binary(SUBTYPE, pack(value))
+               : value;
+    }
+
+    @Override
+    public Class<Object> getEncoderClass() {
+        return (Class<Object>) getTypeData().getType();
+    }
+}
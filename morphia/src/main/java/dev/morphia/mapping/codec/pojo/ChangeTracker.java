@@ -0,0 +1,314 @@
+package dev.morphia.mapping.codec.pojo;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records a hash of each top level field of the entities loaded from the database so that saving them later only needs to write the
+ * fields that changed.  Entities are tracked by identity and are only weakly held.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+public class ChangeTracker {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Map<IdentityReference, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+    /**
+     * Encodes an entity the way it would be written to the database.  Any persistence lifecycle methods are invoked.
+     *
+     * @param entity the entity to encode
+     * @param codec  the codec to use
+     * @param <T>    the entity type
+     * @return the encoded entity
+     */
+    public <T> EncodedEntity encode(final T entity, final Codec<T> codec) {
+        final TrackingWriter writer = new TrackingWriter();
+        codec.encode(writer, entity, EncoderContext.builder().isEncodingCollectibleDocument(true).build());
+        return writer.getEncodedEntity();
+    }
+
+    /**
+     * Stops tracking an entity.  The next save of the entity writes the whole document.
+     *
+     * @param entity the entity to forget
+     */
+    public void forget(final Object entity) {
+        snapshots.remove(new IdentityReference(entity, null));
+    }
+
+    /**
+     * @param entity the entity to look up
+     * @return the state of the entity when it was loaded or last saved or null if the entity is not tracked
+     */
+    public Snapshot getSnapshot(final Object entity) {
+        return snapshots.get(new IdentityReference(entity, null));
+    }
+
+    /**
+     * @return the number of entities tracked
+     */
+    public int size() {
+        expunge();
+        return snapshots.size();
+    }
+
+    /**
+     * Records the state of an entity as it was written to the database.
+     *
+     * @param entity  the entity
+     * @param encoded the encoded form of the entity
+     */
+    public void update(final Object entity, final EncodedEntity encoded) {
+        expunge();
+        snapshots.put(new IdentityReference(entity, queue), encoded.snapshot());
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> void track(final T entity, final MorphiaCodec<T> codec) {
+        MorphiaCodec<T> entityCodec = codec;
+        if (!entity.getClass().equals(codec.getEncoderClass())) {
+            final Codec<T> found = codec.getRegistry().get((Class<T>) entity.getClass());
+            if (!(found instanceof MorphiaCodec)) {
+                return;
+            }
+            entityCodec = (MorphiaCodec<T>) found;
+        }
+        final TrackingWriter writer = new TrackingWriter();
+        entityCodec.encodeState(writer, entity);
+        update(entity, writer.getEncodedEntity());
+    }
+
+    private void expunge() {
+        Reference<?> reference;
+        while ((reference = queue.poll()) != null) {
+            snapshots.remove(reference);
+        }
+    }
+
+    private static long hash(final byte[] bytes, final int start, final int end) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = start; i < end; i++) {
+            hash ^= bytes[i] & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * The hashed top level fields of a tracked entity
+     */
+    public static final class Snapshot {
+        private final String[] names;
+        private final long[] hashes;
+
+        private Snapshot(final String[] names, final long[] hashes) {
+            this.names = names;
+            this.hashes = hashes;
+        }
+
+        private int indexOf(final String name, final int hint) {
+            if (hint < names.length && names[hint].equals(name)) {
+                return hint;
+            }
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * An entity encoded to BSON along with the boundaries of each of its top level fields
+     */
+    public static final class EncodedEntity {
+        private final byte[] bytes;
+        private final int length;
+        private final String[] names;
+        private final int[] offsets;
+
+        private EncodedEntity(final byte[] bytes, final int length, final String[] names, final int[] offsets) {
+            this.bytes = bytes;
+            this.length = length;
+            this.names = names;
+            this.offsets = offsets;
+        }
+
+        /**
+         * @return the encoded document
+         */
+        public RawBsonDocument getDocument() {
+            return new RawBsonDocument(bytes, 0, length);
+        }
+
+        /**
+         * Compares this entity with its earlier state and builds the update that brings the stored document up to date.  The
+         * {@code $set} holds the changed fields copied directly from the encoded bytes and the {@code $unset} holds any fields no
+         * longer written.
+         *
+         * @param previous the earlier state
+         * @return the update document which is empty if nothing changed
+         */
+        public BsonDocument getChanges(final Snapshot previous) {
+            final boolean[] seen = new boolean[previous.names.length];
+            final List<Integer> changed = new ArrayList<>();
+            int size = 0;
+            for (int i = 0; i < names.length; i++) {
+                final int index = previous.indexOf(names[i], i);
+                if (index != -1) {
+                    seen[index] = true;
+                }
+                if (!names[i].equals("_id")
+                    && (index == -1 || previous.hashes[index] != hash(bytes, offsets[i], offsets[i + 1]))) {
+                    changed.add(i);
+                    size += offsets[i + 1] - offsets[i];
+                }
+            }
+
+            final BsonDocument update = new BsonDocument();
+            if (!changed.isEmpty()) {
+                final byte[] set = new byte[size + 5];
+                int position = 4;
+                for (final Integer i : changed) {
+                    final int elementLength = offsets[i + 1] - offsets[i];
+                    System.arraycopy(bytes, offsets[i], set, position, elementLength);
+                    position += elementLength;
+                }
+                final int total = set.length;
+                set[0] = (byte) total;
+                set[1] = (byte) (total >> 8);
+                set[2] = (byte) (total >> 16);
+                set[3] = (byte) (total >> 24);
+                update.append("$set", new RawBsonDocument(set));
+            }
+
+            final BsonDocument unset = new BsonDocument();
+            for (int i = 0; i < seen.length; i++) {
+                if (!seen[i]) {
+                    unset.append(previous.names[i], new BsonString(""));
+                }
+            }
+            if (!unset.isEmpty()) {
+                update.append("$unset", unset);
+            }
+            return update;
+        }
+
+        private Snapshot snapshot() {
+            final long[] hashes = new long[names.length];
+            for (int i = 0; i < names.length; i++) {
+                hashes[i] = hash(bytes, offsets[i], offsets[i + 1]);
+            }
+            return new Snapshot(names, hashes);
+        }
+    }
+
+    private static final class TrackingWriter extends BsonBinaryWriter {
+        private final BasicOutputBuffer buffer;
+        private final List<String> names = new ArrayList<>();
+        private int[] offsets = new int[16];
+        private int depth;
+
+        private TrackingWriter() {
+            this(new BasicOutputBuffer());
+        }
+
+        private TrackingWriter(final BasicOutputBuffer buffer) {
+            super(buffer);
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void writeName(final String name) {
+            if (depth == 1) {
+                recordOffset();
+                names.add(name);
+            }
+            super.writeName(name);
+        }
+
+        @Override
+        protected void doWriteStartDocument() {
+            depth++;
+            super.doWriteStartDocument();
+        }
+
+        @Override
+        protected void doWriteEndDocument() {
+            if (depth == 1) {
+                recordOffset();
+            }
+            depth--;
+            super.doWriteEndDocument();
+        }
+
+        @Override
+        protected void doWriteStartArray() {
+            depth++;
+            super.doWriteStartArray();
+        }
+
+        @Override
+        protected void doWriteEndArray() {
+            depth--;
+            super.doWriteEndArray();
+        }
+
+        private void recordOffset() {
+            if (names.size() == offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[names.size()] = buffer.getPosition();
+        }
+
+        private EncodedEntity getEncodedEntity() {
+            return new EncodedEntity(buffer.getInternalBuffer(), buffer.getPosition(), names.toArray(new String[0]),
+                Arrays.copyOf(offsets, names.size() + 1));
+        }
+    }
+
+    private static final class IdentityReference extends WeakReference<Object> {
+        private final int hash;
+
+        private IdentityReference(final Object referent, final ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof IdentityReference)) {
+                return false;
+            }
+            final Object referent = get();
+            return referent != null && referent == ((IdentityReference) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -6,71 +6,86 @@ import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * @morphia.internal
  */
 public class ClassMethodPair {
+    private static final MethodType INVOKER_TYPE = MethodType.genericMethodType(3);
+    private static final int INSTANCE = 0;
+    private static final int ENTITY = 1;
+    private static final int DOCUMENT = 2;
+    private static final int DATASTORE = 3;
+
+    private final EntityModel<?> model;
     private final Class<?> type;
     private final Method method;
-    private final Datastore datastore;
+    private final MethodHandle invoker;
+    private final boolean usesDocument;
     private Class<? extends Annotation> event;
 
-    ClassMethodPair(final Datastore datastore, final Method method, final Class<?> type, final Class<? extends Annotation> event) {
+    ClassMethodPair(final EntityModel<?> model, final Datastore datastore, final Method method, final Class<?> type,
+                    final Class<? extends Annotation> event) {
+        this.model = model;
         this.event = event;
         this.type = type;
         this.method = method;
-        this.datastore = datastore;
+        this.invoker = bind(method, datastore);
+        this.usesDocument = List.of(method.getParameterTypes()).contains(Document.class);
     }
 
-    void invoke(final Document document, final Object entity) {
+    /**
+     * Binds the method to a handle taking (instance, entity, document) by mapping each parameter to one of those values or the datastore
+     * once rather than on every invocation.
+     */
+    private static MethodHandle bind(final Method method, final Datastore datastore) {
         try {
-            Object instance;
-            if (type != null) {
-                instance = getOrCreateInstance(type);
-            } else {
-                instance = entity;
-            }
-
-            final Method method = getMethod();
             method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            handle = handle.asType(handle.type().generic());
 
-            Sofia.logCallingLifecycleMethod(event.getSimpleName(), method, instance);
-            List<Object> args = new ArrayList<>();
-
-            for (final Class<?> parameterType : method.getParameterTypes()) {
-                if (parameterType.equals(Document.class)) {
-                    args.add(document);
-                } else if (parameterType.equals(Datastore.class)) {
-                    args.add(datastore);
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            final int[] reorder = new int[parameterTypes.length + 1];
+            reorder[0] = INSTANCE;
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i].equals(Document.class)) {
+                    reorder[i + 1] = DOCUMENT;
+                } else if (parameterTypes[i].equals(Datastore.class)) {
+                    reorder[i + 1] = DATASTORE;
                 } else {
-                    args.add(entity);
+                    reorder[i + 1] = ENTITY;
                 }
             }
-            if (instance == null) {
-                method.invoke(args.toArray());
-            } else {
-                method.invoke(instance, args.toArray());
-            }
-        } catch (ReflectiveOperationException e) {
-            throw new IllegalStateException(e.getMessage(), e);
+            handle = MethodHandles.permuteArguments(handle, MethodType.genericMethodType(4), reorder);
+            return MethodHandles.insertArguments(handle, DATASTORE, datastore)
+                                .asType(INVOKER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new MappingException(e.getMessage(), e);
         }
     }
 
-    private Object getOrCreateInstance(final Class<?> type) {
+    void invoke(final Document document, final Object entity) {
+        Object instance = type != null ? model.getListener(type) : entity;
+
+        Sofia.logCallingLifecycleMethod(event.getSimpleName(), method, instance);
         try {
-            return type.getDeclaredConstructor(new Class[0]).newInstance();
-        } catch (ReflectiveOperationException e) {
-            throw new MappingException(Sofia.cannotInstantiate(type, e.getMessage()));
+            Object ignored = invoker.invokeExact(instance, entity, (Object) document);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e.getMessage(), e);
         }
-
     }
 
     Method getMethod() {
         return method;
     }
 
+    boolean usesDocument() {
+        return usesDocument;
+    }
+
 }
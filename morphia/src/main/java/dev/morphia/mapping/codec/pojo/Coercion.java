@@ -0,0 +1,96 @@
+package dev.morphia.mapping.codec.pojo;
+
+import dev.morphia.mapping.codec.Conversions;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.util.function.Function;
+
+/**
+ * Decodes a stored value whose BSON type does not match its field by reading it as its natural Java type and converting it with one
+ * of the registered {@link Conversions}.  This lets documents written before a field's type changed be read without first failing
+ * to decode them with the field's own codec.
+ *
+ * @param <T> the field type
+ * @morphia.internal
+ * @since 2.0
+ */
+public final class Coercion<T> {
+    private static final BsonTypeClassMap BSON_TYPE_CLASS_MAP = new BsonTypeClassMap();
+    private static final Coercion<?>[] NONE = new Coercion<?>[0];
+
+    private final Codec<Object> source;
+    private final Function<Object, T> conversion;
+
+    private Coercion(final Codec<Object> source, final Function<Object, T> conversion) {
+        this.source = source;
+        this.conversion = conversion;
+    }
+
+    /**
+     * Builds the coercions for a field type indexed by the ordinal of the stored BSON type.  Types the field's codec reads itself have
+     * no entry.  Field types with no natural BSON type of their own get no coercions at all since there is no telling which BSON
+     * types their codecs accept.
+     *
+     * @param target   the field type
+     * @param registry the registry to find the codecs for stored values
+     * @return the coercions
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Coercion<?>[] table(final Class<?> target, final CodecRegistry registry) {
+        if (!hasNaturalType(target)) {
+            return NONE;
+        }
+        Coercion<?>[] table = NONE;
+        for (final BsonType bsonType : BsonType.values()) {
+            final Class<?> stored = BSON_TYPE_CLASS_MAP.get(bsonType);
+            if (stored == null || target.isAssignableFrom(stored)
+                || Number.class.isAssignableFrom(target) && Number.class.isAssignableFrom(stored)) {
+                // the numeric codecs already widen and narrow between the numeric BSON types
+                continue;
+            }
+            Function conversion = Conversions.find(stored, target);
+            if (conversion == null && target.equals(String.class)) {
+                conversion = Object::toString;
+            }
+            if (conversion != null) {
+                try {
+                    final Codec<Object> codec = (Codec<Object>) registry.get(stored);
+                    if (table == NONE) {
+                        table = new Coercion<?>[BsonType.values().length];
+                    }
+                    table[bsonType.ordinal()] = new Coercion<>(codec, conversion);
+                } catch (CodecConfigurationException ignored) {
+                    // no codec for the stored type so leave it to the field's codec
+                }
+            }
+        }
+        return table;
+    }
+
+    private static boolean hasNaturalType(final Class<?> target) {
+        for (final BsonType bsonType : BsonType.values()) {
+            final Class<?> stored = BSON_TYPE_CLASS_MAP.get(bsonType);
+            if (stored != null && target.isAssignableFrom(stored) && !target.equals(Object.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads the current value and converts it to the field type
+     *
+     * @param reader         the reader positioned at the value
+     * @param decoderContext the decoder context
+     * @return the converted value
+     */
+    public T decode(final BsonReader reader, final DecoderContext decoderContext) {
+        return conversion.apply(decoderContext.decodeWithChildContext(source, reader));
+    }
+}
@@ -32,26 +32,120 @@ public class EntityDecoder<T> implements org.bson.codecs.Decoder<T> {
     @Override
     public T decode(final BsonReader reader, final DecoderContext decoderContext) {
         T entity;
-        if (morphiaCodec.getMappedClass().hasLifecycle(PreLoad.class)
-            || morphiaCodec.getMappedClass().hasLifecycle(PostLoad.class)
-            || morphiaCodec.getMapper().hasInterceptors()) {
-            entity = decodeWithLifecycle(reader, decoderContext);
+        if (hasLifecycleEvents()) {
+            final MorphiaInstanceCreator<T> instanceCreator = getInstanceCreator(morphiaCodec.getEntityModel());
+            if (usesDocument()) {
+                decodeWithDocument(reader, decoderContext, instanceCreator);
+            } else {
+                decodeWithLifecycle(reader, decoderContext, instanceCreator);
+            }
+            entity = instanceCreator.getInstance();
         } else {
             EntityModel<T> classModel = morphiaCodec.getEntityModel();
             if (decoderContext.hasCheckedDiscriminator()) {
                 MorphiaInstanceCreator<T> instanceCreator = getInstanceCreator(classModel);
                 decodeProperties(reader, decoderContext, instanceCreator);
                 return instanceCreator.getInstance();
+            } else if (classModel.useDiscriminator()) {
+                entity = decodeDiscriminated(reader, classModel);
             } else {
-                entity = getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(),
-                    morphiaCodec.getRegistry(), morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
-                             .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+                entity = decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
             }
         }
 
+        track(entity);
+
         return entity;
     }
 
+    void decodeInto(final BsonReader reader, final T entity) {
+        final DecoderContext decoderContext = DecoderContext.builder().checkedDiscriminator(true).build();
+        final MorphiaInstanceCreator<T> instanceCreator = new MorphiaInstanceCreator<>() {
+            @Override
+            public T getInstance() {
+                return entity;
+            }
+
+            @Override
+            public <S> void set(final S value, final FieldModel<S> model) {
+                model.getAccessor().set(entity, value);
+            }
+        };
+        if (!hasLifecycleEvents()) {
+            decodeProperties(reader, decoderContext, instanceCreator);
+        } else if (usesDocument()) {
+            decodeWithDocument(reader, decoderContext, instanceCreator);
+        } else {
+            decodeWithLifecycle(reader, decoderContext, instanceCreator);
+        }
+        track(entity);
+    }
+
+    /**
+     * Decodes a document written with its discriminator at the start.  The encoder always writes the discriminator immediately after the
+     * ID so only the first two fields are read to find the type.  If the type can be decoded without lifecycle events, decoding picks up
+     * from there rather than starting the document over.  Documents with the discriminator anywhere else fall back to a full scan.
+     */
+    @SuppressWarnings("unchecked")
+    private T decodeDiscriminated(final BsonReader reader, final EntityModel<T> classModel) {
+        final DecoderContext checked = DecoderContext.builder().checkedDiscriminator(true).build();
+        final BsonReaderMark start = reader.getMark();
+        BsonReaderMark idValue = null;
+        String discriminator = null;
+        try {
+            reader.readStartDocument();
+            for (int i = 0; i < 2 && reader.readBsonType() != BsonType.END_OF_DOCUMENT; i++) {
+                final String name = reader.readName();
+                if (classModel.getDiscriminatorKey().equals(name)) {
+                    discriminator = reader.readString();
+                    break;
+                } else if (i == 0 && "_id".equals(name)) {
+                    idValue = reader.getMark();
+                    reader.skipValue();
+                } else {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            throw new CodecConfigurationException(String.format("Failed to decode '%s'. Decoding errored with: %s",
+                classModel.getName(), e.getMessage()), e);
+        }
+
+        if (discriminator == null) {
+            start.reset();
+            return getCodecFromDocument(reader, true, classModel.getDiscriminatorKey(), morphiaCodec.getRegistry(),
+                morphiaCodec.getDiscriminatorLookup(), morphiaCodec)
+                       .decode(reader, checked);
+        }
+
+        final Codec<T> codec = (Codec<T>) morphiaCodec.getRegistry().get(morphiaCodec.getDiscriminatorLookup().lookup(discriminator));
+        final EntityDecoder<T> decoder = codec instanceof MorphiaCodec ? ((MorphiaCodec<T>) codec).getDecoder() : null;
+        if (decoder == null || decoder.hasLifecycleEvents()) {
+            start.reset();
+            return codec.decode(reader, checked);
+        }
+
+        final MorphiaInstanceCreator<T> instanceCreator = decoder.getInstanceCreator(decoder.morphiaCodec.getEntityModel());
+        if (idValue != null) {
+            idValue.reset();
+            decoder.decodeModel(reader, checked, instanceCreator, decoder.morphiaCodec.getEntityModel().getFieldModelByName("_id"));
+        }
+        decoder.decodeFields(reader, checked, instanceCreator);
+        return instanceCreator.getInstance();
+    }
+
+    private boolean hasLifecycleEvents() {
+        return morphiaCodec.getMappedClass().hasLifecycle(PreLoad.class)
+               || morphiaCodec.getMappedClass().hasLifecycle(PostLoad.class)
+               || morphiaCodec.getMapper().hasInterceptors();
+    }
+
+    private boolean usesDocument() {
+        return morphiaCodec.getMappedClass().usesDocument(PreLoad.class)
+               || morphiaCodec.getMappedClass().usesDocument(PostLoad.class)
+               || morphiaCodec.getMapper().hasDocumentInterceptors();
+    }
+
     @SuppressWarnings("unchecked")
     protected <S> void decodeModel(final BsonReader reader, final DecoderContext decoderContext,
                                    final MorphiaInstanceCreator<T> instanceCreator, final FieldModel<S> model) {
@@ -60,14 +154,18 @@ public class EntityDecoder<T> implements org.bson.codecs.Decoder<T> {
             final BsonReaderMark mark = reader.getMark();
             try {
                 S value = null;
-                if (reader.getCurrentBsonType() == BsonType.NULL) {
+                final BsonType bsonType = reader.getCurrentBsonType();
+                if (bsonType == BsonType.NULL) {
                     reader.readNull();
                 } else {
-                    value = decoderContext.decodeWithChildContext(model.getCachedCodec(), reader);
+                    final Coercion<S> coercion = model.getCoercion(bsonType);
+                    value = coercion != null ? coercion.decode(reader, decoderContext)
+                                             : decoderContext.decodeWithChildContext(model.getCachedCodec(), reader);
                 }
                 instanceCreator.set(value, model);
             } catch (BsonInvalidOperationException e) {
                 mark.reset();
+                model.recordFallbackRead();
                 final Object value = morphiaCodec.getMapper().getCodecRegistry().get(Object.class).decode(reader, decoderContext);
                 instanceCreator.set((S) convert(value, model.getTypeData().getType()), model);
             }
@@ -79,6 +177,11 @@ public class EntityDecoder<T> implements org.bson.codecs.Decoder<T> {
     protected void decodeProperties(final BsonReader reader, final DecoderContext decoderContext,
                                     final MorphiaInstanceCreator<T> instanceCreator) {
         reader.readStartDocument();
+        decodeFields(reader, decoderContext, instanceCreator);
+    }
+
+    private void decodeFields(final BsonReader reader, final DecoderContext decoderContext,
+                              final MorphiaInstanceCreator<T> instanceCreator) {
         EntityModel<T> classModel = morphiaCodec.getEntityModel();
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             String name = reader.readName();
@@ -121,10 +224,17 @@ public class EntityDecoder<T> implements org.bson.codecs.Decoder<T> {
         return classModel.getInstanceCreator();
     }
 
-    private T decodeWithLifecycle(final BsonReader reader, final DecoderContext decoderContext) {
-        final T entity;
-        final MorphiaInstanceCreator<T> instanceCreator = getInstanceCreator(morphiaCodec.getEntityModel());
-        entity = instanceCreator.getInstance();
+    private void track(final T entity) {
+        if (entity != null && morphiaCodec.getMapper().getOptions().isTrackChanges()
+            && morphiaCodec.getMappedClass().getEntityAnnotation() != null
+            && morphiaCodec.getMappedClass().getIdField() != null) {
+            morphiaCodec.getMapper().getChangeTracker().track(entity, morphiaCodec);
+        }
+    }
+
+    private void decodeWithDocument(final BsonReader reader, final DecoderContext decoderContext,
+                                    final MorphiaInstanceCreator<T> instanceCreator) {
+        final T entity = instanceCreator.getInstance();
 
         Document document = morphiaCodec.getRegistry().get(Document.class).decode(reader, decoderContext);
         morphiaCodec.getMappedClass().callLifecycleMethods(PreLoad.class, entity, document, morphiaCodec.getMapper());
@@ -132,7 +242,14 @@ public class EntityDecoder<T> implements org.bson.codecs.Decoder<T> {
         decodeProperties(new DocumentReader(document), decoderContext, instanceCreator);
 
         morphiaCodec.getMappedClass().callLifecycleMethods(PostLoad.class, entity, document, morphiaCodec.getMapper());
-        return entity;
     }
 
+    private void decodeWithLifecycle(final BsonReader reader, final DecoderContext decoderContext,
+                                     final MorphiaInstanceCreator<T> instanceCreator) {
+        final T entity = instanceCreator.getInstance();
+
+        morphiaCodec.getMappedClass().callLifecycleMethods(PreLoad.class, entity, null, morphiaCodec.getMapper());
+        decodeProperties(reader, decoderContext, instanceCreator);
+        morphiaCodec.getMappedClass().callLifecycleMethods(PostLoad.class, entity, null, morphiaCodec.getMapper());
+    }
 }
@@ -4,6 +4,7 @@ import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.codec.DocumentWriter;
+import dev.morphia.mapping.codec.MethodHandleAccessor;
 import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.EncoderContext;
@@ -34,7 +35,13 @@ class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
             || mappedClass.hasLifecycle(PrePersist.class)
             || morphiaCodec.getMapper().hasInterceptors()) {
 
-            encodeWithLifecycle(writer, value, encoderContext);
+            if (mappedClass.usesDocument(PrePersist.class)
+                || mappedClass.usesDocument(PostPersist.class)
+                || morphiaCodec.getMapper().hasDocumentInterceptors()) {
+                encodeWithDocument(writer, value, encoderContext);
+            } else {
+                encodeWithLifecycle(writer, value, encoderContext);
+            }
         } else {
             encodeEntity(writer, value, encoderContext);
         }
@@ -52,13 +59,14 @@ class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
     }
 
     @SuppressWarnings("unchecked")
-    private void encodeEntity(final BsonWriter writer, final T value, final EncoderContext encoderContext) {
+    void encodeEntity(final BsonWriter writer, final T value, final EncoderContext encoderContext) {
         if (areEquivalentTypes(value.getClass(), morphiaCodec.getEntityModel().getType())) {
             writer.writeStartDocument();
 
             FieldModel<?> idModel = morphiaCodec.getEntityModel().getIdModel();
             encodeIdProperty(writer, value, encoderContext, idModel);
 
+            // the decoder only looks at the first two fields for the discriminator so it must directly follow the ID
             if (morphiaCodec.getEntityModel().useDiscriminator()) {
                 writer.writeString(morphiaCodec.getEntityModel().getDiscriminatorKey(), morphiaCodec.getEntityModel().getDiscriminator());
             }
@@ -96,8 +104,13 @@ class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
     private <S> void encodeProperty(final BsonWriter writer, final T instance, final EncoderContext encoderContext,
                                     final FieldModel<S> model) {
         if (model != null) {
-            S value = model.getAccessor().get(instance);
-            encodeValue(writer, encoderContext, model, value);
+            if (model.isWriteDirectly()) {
+                writer.writeName(model.getMappedName());
+                ((MethodHandleAccessor) model.getAccessor()).writeDirectly(writer, instance);
+            } else {
+                S value = model.getAccessor().get(instance);
+                encodeValue(writer, encoderContext, model, value);
+            }
         }
     }
 
@@ -118,7 +131,7 @@ class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
         }
     }
 
-    private void encodeWithLifecycle(final BsonWriter writer, final T value, final EncoderContext encoderContext) {
+    private void encodeWithDocument(final BsonWriter writer, final T value, final EncoderContext encoderContext) {
         Document document = new Document();
         morphiaCodec.getMappedClass().callLifecycleMethods(PrePersist.class, value, document, morphiaCodec.getMapper());
 
@@ -130,6 +143,13 @@ class EntityEncoder<T> implements org.bson.codecs.Encoder<T> {
         morphiaCodec.getRegistry().get(Document.class).encode(writer, document, encoderContext);
     }
 
+    private void encodeWithLifecycle(final BsonWriter writer, final T value, final EncoderContext encoderContext) {
+        MappedClass mappedClass = morphiaCodec.getMappedClass();
+        mappedClass.callLifecycleMethods(PrePersist.class, value, null, morphiaCodec.getMapper());
+        encodeEntity(writer, value, encoderContext);
+        mappedClass.callLifecycleMethods(PostPersist.class, value, null, morphiaCodec.getMapper());
+    }
+
     private IdGenerator getIdGenerator() {
         if (idGenerator == null) {
             FieldModel<?> idModel = morphiaCodec.getEntityModel().getIdModel();
@@ -7,6 +7,7 @@ import dev.morphia.annotations.PostLoad;
 import dev.morphia.annotations.PostPersist;
 import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
+import dev.morphia.mapping.EntityListenerFactory;
 import dev.morphia.mapping.InstanceCreatorFactory;
 import dev.morphia.mapping.InstanceCreatorFactoryImpl;
 import dev.morphia.mapping.Mapper;
@@ -16,6 +17,7 @@ import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
@@ -25,6 +27,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static java.lang.String.format;
@@ -47,6 +50,7 @@ public class EntityModel<T> {
     private final Map<Class<? extends Annotation>, List<Annotation>> annotations;
     private final Map<String, FieldModel<?>> fieldModelsByField;
     private final Map<Object, FieldModel<?>> fieldModelsByMappedName;
+    private final int fieldModelCount;
     private final Datastore datastore;
     private final InstanceCreatorFactory<T> creatorFactory;
     private final boolean discriminatorEnabled;
@@ -54,7 +58,8 @@ public class EntityModel<T> {
     private final String discriminator;
     private final Class<T> type;
     private final String collectionName;
-    private Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods;
+    private final Map<Class<?>, Object> listeners = new ConcurrentHashMap<>();
+    private volatile Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods;
 
     /**
      * Creates a new instance
@@ -70,8 +75,11 @@ public class EntityModel<T> {
         this.annotations = builder.annotationsMap();
         this.fieldModelsByField = new LinkedHashMap<>();
         this.fieldModelsByMappedName = new LinkedHashMap<>();
-        builder.fieldModels().forEach(modelBuilder -> {
+        final List<FieldModelBuilder<?>> fieldModelBuilders = builder.fieldModels();
+        for (int i = 0; i < fieldModelBuilders.size(); i++) {
+            final FieldModelBuilder<?> modelBuilder = fieldModelBuilders.get(i);
             FieldModel<?> model = modelBuilder.build();
+            model.setOrdinal(i);
             fieldModelsByMappedName.put(model.getMappedName(), model);
             for (final String name : modelBuilder.alternateNames()) {
                 if (fieldModelsByMappedName.put(name, model) != null) {
@@ -79,7 +87,8 @@ public class EntityModel<T> {
                 }
             }
             fieldModelsByField.putIfAbsent(model.getName(), model);
-        });
+        }
+        fieldModelCount = fieldModelBuilders.size();
 
         this.datastore = builder.getDatastore();
         this.collectionName = builder.getCollectionName();
@@ -172,6 +181,14 @@ public class EntityModel<T> {
         return fieldModelsByField.values();
     }
 
+    /**
+     * @return the number of field models built for this model.  This bounds the values of {@link FieldModel#getOrdinal()}.
+     * @morphia.internal
+     */
+    public int getFieldModelCount() {
+        return fieldModelCount;
+    }
+
     /**
      * @return the model for the id field
      */
@@ -198,19 +215,21 @@ public class EntityModel<T> {
      * @return the lifecycle event methods
      */
     public Map<Class<? extends Annotation>, List<ClassMethodPair>> getLifecycleMethods() {
-        if (lifecycleMethods == null) {
-            lifecycleMethods = new HashMap<>();
+        Map<Class<? extends Annotation>, List<ClassMethodPair>> methods = lifecycleMethods;
+        if (methods == null) {
+            methods = new HashMap<>();
 
             final EntityListeners entityLisAnn = getAnnotation(EntityListeners.class);
             if (entityLisAnn != null && entityLisAnn.value().length != 0) {
                 for (final Class<?> aClass : entityLisAnn.value()) {
-                    mapEvent(aClass, true);
+                    mapEvent(methods, aClass, true);
                 }
             }
 
-            mapEvent(getType(), false);
+            mapEvent(methods, getType(), false);
+            lifecycleMethods = methods;
         }
-        return lifecycleMethods;
+        return methods;
     }
 
     /**
@@ -235,6 +254,25 @@ public class EntityModel<T> {
         return getLifecycleMethods().containsKey(type);
     }
 
+    /**
+     * Checks if any of the methods for a lifecycle event take the Document form of the entity.  If none do, the entity can be encoded
+     * or decoded directly without building an intermediate Document.
+     *
+     * @param type the lifecycle event type
+     * @return true if a Document is needed to invoke the methods for that event
+     */
+    public boolean usesDocument(final Class<? extends Annotation> type) {
+        final List<ClassMethodPair> methodPairs = getLifecycleMethods().get(type);
+        if (methodPairs != null) {
+            for (final ClassMethodPair methodPair : methodPairs) {
+                if (methodPair.usesDocument()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(getAnnotations(), fieldModelsByField, fieldModelsByMappedName, datastore, creatorFactory, discriminatorEnabled,
@@ -291,6 +329,24 @@ public class EntityModel<T> {
         }
     }
 
+    Object getListener(final Class<?> listenerType) {
+        return listeners.computeIfAbsent(listenerType, this::createListener);
+    }
+
+    private Object createListener(final Class<?> listenerType) {
+        EntityListenerFactory factory = datastore.getMapper().getOptions().getListenerFactory();
+        if (factory != null) {
+            return factory.create(listenerType);
+        }
+        try {
+            final Constructor<?> constructor = listenerType.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new MappingException(Sofia.cannotInstantiate(listenerType, e.getMessage()));
+        }
+    }
+
     private List<Method> getDeclaredAndInheritedMethods(final Class<?> type) {
         final List<Method> methods = new ArrayList<>();
         if ((type == null) || (type == Object.class)) {
@@ -309,12 +365,13 @@ public class EntityModel<T> {
         return methods;
     }
 
-    private void mapEvent(final Class<?> type, final boolean entityListener) {
+    private void mapEvent(final Map<Class<? extends Annotation>, List<ClassMethodPair>> methods, final Class<?> type,
+                          final boolean entityListener) {
         for (final Method method : getDeclaredAndInheritedMethods(type)) {
             for (final Class<? extends Annotation> annotationClass : LIFECYCLE_ANNOTATIONS) {
                 if (method.isAnnotationPresent(annotationClass)) {
-                    lifecycleMethods.computeIfAbsent(annotationClass, c -> new ArrayList<>())
-                                    .add(new ClassMethodPair(datastore, method, entityListener ? type : null, annotationClass));
+                    methods.computeIfAbsent(annotationClass, c -> new ArrayList<>())
+                           .add(new ClassMethodPair(this, datastore, method, entityListener ? type : null, annotationClass));
                 }
             }
         }
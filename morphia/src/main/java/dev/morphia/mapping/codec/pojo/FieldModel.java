@@ -16,17 +16,23 @@
 
 package dev.morphia.mapping.codec.pojo;
 
+import dev.morphia.mapping.codec.MethodHandleAccessor;
+import dev.morphia.mapping.codec.MorphiaPropertySerialization;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonType;
 import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PropertyAccessor;
 import org.bson.codecs.pojo.PropertySerialization;
 import org.bson.codecs.pojo.TypeData;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Represents a field on a class and stores various metadata such as generic parameters.
@@ -45,7 +51,12 @@ public final class FieldModel<T> {
     private final PropertySerialization<T> serialization;
     private final List<Annotation> annotations;
     private volatile Codec<T> cachedCodec;
+    private volatile boolean writeDirectly;
     private Class<?> normalizedType;
+    private int ordinal = -1;
+    private volatile Coercion<?>[] coercions = new Coercion<?>[0];
+    private final LongAdder coercedReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
 
     FieldModel(final Field field, final String name, final String mappedName, final TypeData<T> typeData,
                final List<Annotation> annotations, final Codec<T> codec, final PropertyAccessor<T> accessor,
@@ -131,6 +142,48 @@ public final class FieldModel<T> {
         return cachedCodec;
     }
 
+    /**
+     * Finds how to read a stored value of the given type if this field's codec can't read it directly
+     *
+     * @param bsonType the stored type
+     * @return the coercion to use or null if the field's codec should read the value
+     * @morphia.internal
+     */
+    @SuppressWarnings("unchecked")
+    public Coercion<T> getCoercion(final BsonType bsonType) {
+        final Coercion<?>[] table = coercions;
+        final int index = bsonType.ordinal();
+        if (index < table.length && table[index] != null) {
+            coercedReads.increment();
+            return (Coercion<T>) table[index];
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of values read through a coercion because their stored type didn't match this field
+     * @morphia.internal
+     */
+    public long getCoercedReads() {
+        return coercedReads.sum();
+    }
+
+    /**
+     * @return the number of values that failed to decode with this field's codec and had to be read generically and converted
+     * @morphia.internal
+     */
+    public long getFallbackReads() {
+        return fallbackReads.sum();
+    }
+
+    void recordFallbackRead() {
+        fallbackReads.increment();
+    }
+
+    void coercions(final CodecRegistry registry) {
+        coercions = codec == null ? Coercion.table(typeData.getType(), registry) : new Coercion<?>[0];
+    }
+
     /**
      * @return the custom codec to use if set or null
      */
@@ -159,6 +212,18 @@ public final class FieldModel<T> {
         return name;
     }
 
+    /**
+     * @return the position of this field among the fields of its entity model or -1 if it does not belong to one
+     * @morphia.internal
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    void setOrdinal(final int ordinal) {
+        this.ordinal = ordinal;
+    }
+
     /**
      * Gets the parameterized type of a List or the key type of a Map, e.g.
      *
@@ -216,6 +281,16 @@ public final class FieldModel<T> {
                    .toString();
     }
 
+    /**
+     * Checks if this field is a primitive that can be written without boxing.  Such fields are always serialized.
+     *
+     * @return true if the value can be written via {@link MethodHandleAccessor#writeDirectly(org.bson.BsonWriter, Object)}
+     * @morphia.internal
+     */
+    public boolean isWriteDirectly() {
+        return writeDirectly;
+    }
+
     /**
      * Checks a value against the configured rules for serialization
      *
@@ -226,8 +301,14 @@ public final class FieldModel<T> {
         return serialization.shouldSerialize(value);
     }
 
+    @SuppressWarnings("unchecked")
     void cachedCodec(final Codec<T> codec) {
         this.cachedCodec = codec;
+        // MorphiaPropertySerialization only depends on the value for nulls and empty collections so any primitive value will do
+        writeDirectly = accessor instanceof MethodHandleAccessor
+                        && ((MethodHandleAccessor) accessor).canWriteDirectly(codec)
+                        && serialization instanceof MorphiaPropertySerialization
+                        && serialization.shouldSerialize((T) Array.get(Array.newInstance(field.getType(), 1), 0));
     }
 
 }
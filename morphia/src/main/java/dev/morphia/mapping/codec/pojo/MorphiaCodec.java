@@ -70,6 +70,17 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         return getDecoder().decode(reader, decoderContext);
     }
 
+    /**
+     * Decodes a document in to an existing entity rather than creating a new instance.  Lifecycle methods and interceptors are invoked
+     * just as they are by {@link #decode(BsonReader, DecoderContext)}.
+     *
+     * @param reader the reader holding the document
+     * @param entity the entity to update
+     */
+    public void decodeInto(final BsonReader reader, final T entity) {
+        new EntityDecoder<>(this).decodeInto(reader, entity);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void specializePropertyCodecs() {
         EntityModel<T> entityModel = getEntityModel();
@@ -77,6 +88,7 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
             Codec codec = fieldModel.getCodec() != null ? fieldModel.getCodec()
                                                         : propertyCodecRegistry.get(fieldModel.getTypeData());
             fieldModel.cachedCodec(codec);
+            fieldModel.coercions(registry);
         }
     }
 
@@ -96,6 +108,13 @@ public class MorphiaCodec<T> implements CollectibleCodec<T> {
         encoder.encode(writer, value, encoderContext);
     }
 
+    /**
+     * Encodes the entity's fields without invoking any lifecycle methods or interceptors
+     */
+    void encodeState(final BsonWriter writer, final T value) {
+        encoder.encodeEntity(writer, value, EncoderContext.builder().build());
+    }
+
     @Override
     public Class<T> getEncoderClass() {
         return getEntityModel().getType();
@@ -14,6 +14,7 @@ import org.bson.BsonSerializationException;
 import org.bson.BsonTimestamp;
 import org.bson.BsonType;
 import org.bson.Document;
+import org.bson.types.Binary;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
@@ -49,17 +50,25 @@ public class DocumentReader implements BsonReader {
 
     @Override
     public BsonBinary readBinaryData() {
-        return (BsonBinary) stage().value();
+        return toBsonBinary(stage().value());
     }
 
     @Override
     public byte peekBinarySubType() {
-        return stage().<BsonBinary>value().getType();
+        return toBsonBinary(stage().peek()).getType();
     }
 
     @Override
     public int peekBinarySize() {
-        return stage().<BsonBinary>value().getData().length;
+        return toBsonBinary(stage().peek()).getData().length;
+    }
+
+    private BsonBinary toBsonBinary(final Object value) {
+        if (value instanceof Binary) {
+            final Binary binary = (Binary) value;
+            return new BsonBinary(binary.getType(), binary.getData());
+        }
+        return (BsonBinary) value;
     }
 
     @Override
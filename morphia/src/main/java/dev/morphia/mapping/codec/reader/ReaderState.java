@@ -77,6 +77,10 @@ class ReaderState {
         return (T) value;
     }
 
+    <T> T peek() {
+        return (T) value;
+    }
+
     ReaderState advance() {
         return reader.nextStage(nextReaderState);
     }
@@ -0,0 +1,161 @@
+package dev.morphia.mapping.codec.references;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.AdvancedDatastore;
+import dev.morphia.Datastore;
+import dev.morphia.experimental.IdentityMap;
+import dev.morphia.mapping.Mapper;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static dev.morphia.query.experimental.filters.Filters.in;
+
+/**
+ * Holds the entities referenced by a batch of documents.  The referenced IDs are collected from every document in the batch, each
+ * collection is queried once, and the references found while decoding the batch are resolved from these results rather than with a
+ * query per reference.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+public class ReferenceBatch {
+    private static final ThreadLocal<ReferenceBatch> CURRENT = new ThreadLocal<>();
+
+    private final Datastore datastore;
+    private final Map<String, Set<Object>> requested = new LinkedHashMap<>();
+    private final Map<String, Map<Object, Object>> fetched = new HashMap<>();
+
+    /**
+     * Creates an empty batch
+     *
+     * @param datastore the datastore to query
+     */
+    public ReferenceBatch(final Datastore datastore) {
+        this.datastore = datastore;
+    }
+
+    /**
+     * @return the batch being decoded on this thread, if any
+     */
+    public static ReferenceBatch current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Collects the referenced IDs found in a reference field's value
+     *
+     * @param collection the collection of the field's type.  This is used for any IDs not stored as DBRefs.
+     * @param value      the value of the field.  This can be a single ID, a DBRef, or a List or Map of them.
+     */
+    public void collect(final String collection, final Object value) {
+        if (value instanceof List) {
+            for (final Object o : (List<?>) value) {
+                collect(collection, o);
+            }
+        } else if (value instanceof Map) {
+            for (final Object o : ((Map<?, ?>) value).values()) {
+                collect(collection, o);
+            }
+        } else if (value instanceof DBRef) {
+            DBRef dbRef = (DBRef) value;
+            requested.computeIfAbsent(dbRef.getCollectionName(), k -> new LinkedHashSet<>())
+                     .add(dbRef.getId());
+        } else if (value != null && !(value instanceof Document) && collection != null
+                   && !datastore.getMapper().isMappable(value.getClass())) {
+            requested.computeIfAbsent(collection, k -> new LinkedHashSet<>())
+                     .add(value);
+        }
+    }
+
+    /**
+     * Queries each collection once for all the IDs collected from it
+     */
+    public void fetch() {
+        final Mapper mapper = datastore.getMapper();
+        final IdentityMap identityMap = IdentityMap.current();
+        for (final Map.Entry<String, Set<Object>> entry : requested.entrySet()) {
+            if (fetched.containsKey(entry.getKey())) {
+                continue;
+            }
+            final Map<Object, Object> entities = new HashMap<>();
+            final List<Object> ids = new ArrayList<>();
+            for (final Object id : entry.getValue()) {
+                final Object loaded = identityMap != null ? identityMap.get(entry.getKey(), id) : null;
+                if (loaded != null) {
+                    entities.put(id, loaded);
+                } else {
+                    ids.add(id);
+                }
+            }
+            if (!ids.isEmpty()) {
+                try (MongoCursor<?> cursor = ((AdvancedDatastore) datastore).find(entry.getKey())
+                                                                            .disableValidation()
+                                                                            .filter(in("_id", ids))
+                                                                            .execute()) {
+                    while (cursor.hasNext()) {
+                        Object entity = cursor.next();
+                        if (identityMap != null) {
+                            entity = identityMap.register(entity);
+                        }
+                        entities.put(mapper.getId(entity), entity);
+                    }
+                }
+            }
+            fetched.put(entry.getKey(), entities);
+        }
+    }
+
+    /**
+     * Finds entities fetched by this batch
+     *
+     * @param collection the collection to search
+     * @param ids        the IDs to find
+     * @return the entities found mapped by their IDs or null if this batch did not fetch all of the IDs.  Missing entities are absent
+     * from the map.
+     */
+    public Map<Object, Object> find(final String collection, final Collection<?> ids) {
+        final Map<Object, Object> entities = fetched.get(collection);
+        if (entities == null || !requested.get(collection).containsAll(ids)) {
+            return null;
+        }
+        final Map<Object, Object> found = new HashMap<>();
+        for (final Object id : ids) {
+            final Object entity = entities.get(id);
+            if (entity != null) {
+                found.put(id, entity);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Runs the decoder with this batch available to any references it resolves
+     *
+     * @param decoder the decoding function
+     * @param <R>     the decoded type
+     * @return the decoded value
+     */
+    public <R> R apply(final Supplier<R> decoder) {
+        final ReferenceBatch previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return decoder.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
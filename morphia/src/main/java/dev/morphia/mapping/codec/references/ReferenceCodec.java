@@ -20,11 +20,6 @@ import dev.morphia.mapping.experimental.SetReference;
 import dev.morphia.mapping.experimental.SingleReference;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.sofia.Sofia;
-import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.dynamic.DynamicType.Loaded;
-import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
-import net.bytebuddy.implementation.InvocationHandlerAdapter;
-import net.bytebuddy.matcher.ElementMatchers;
 import org.bson.BsonReader;
 import org.bson.BsonWriter;
 import org.bson.Document;
@@ -205,33 +200,7 @@ public class ReferenceCodec extends PropertyCodec<Object> implements PropertyHan
         }
         reference.ignoreMissing(annotation.ignoreMissing());
 
-        return !annotation.lazy() ? reference.get() : createProxy(reference);
-    }
-
-    private <T> T createProxy(final MorphiaReference reference) {
-        ReferenceProxy referenceProxy = new ReferenceProxy(reference);
-        try {
-            Class<?> type = getField().getType();
-            String name = (type.getPackageName().startsWith("java") ? type.getSimpleName() : type.getName()) + "$$Proxy";
-            return ((Loaded<T>) new ByteBuddy()
-                                    .subclass(type)
-                                    .implement(MorphiaProxy.class)
-                                    .name(name)
-
-                                    .invokable(ElementMatchers.isDeclaredBy(type))
-                                    .intercept(InvocationHandlerAdapter.of(referenceProxy))
-
-                                    .method(ElementMatchers.isDeclaredBy(MorphiaProxy.class))
-                                    .intercept(InvocationHandlerAdapter.of(referenceProxy))
-
-                                    .make()
-                                    .load(Thread.currentThread().getContextClassLoader(), Default.WRAPPER))
-                       .getLoaded()
-                       .getDeclaredConstructor()
-                       .newInstance();
-        } catch (ReflectiveOperationException | IllegalArgumentException e) {
-            throw new MappingException(e.getMessage(), e);
-        }
+        return !annotation.lazy() ? reference.get() : getDatastore().getMapper().getProxyFactory().createProxy(type, reference);
     }
 
     private Object collectIdValues(final Object value) {
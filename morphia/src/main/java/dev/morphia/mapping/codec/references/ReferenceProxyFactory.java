@@ -0,0 +1,127 @@
+package dev.morphia.mapping.codec.references;
+
+import dev.morphia.annotations.Reference;
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.MappedField;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.mapping.experimental.MorphiaReference;
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy.Default;
+import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.matcher.ElementMatchers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.InvocationHandler;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Generates the proxy types used for lazy references.  Each proxied type is generated and loaded only once and the resulting type is
+ * cached so that creating a proxy for a decoded reference is a single instantiation and the binding of its {@link ReferenceProxy}.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+public class ReferenceProxyFactory {
+    private static final String HANDLER_FIELD = "morphia$handler";
+
+    private final Map<Class<?>, ProxyType> proxyTypes = new ConcurrentHashMap<>();
+    private final ClassLoader classLoader;
+
+    /**
+     * Creates a factory
+     *
+     * @param classLoader the parent ClassLoader to use when loading the generated types
+     */
+    public ReferenceProxyFactory(final ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Creates a new proxy for the reference
+     *
+     * @param type      the type to proxy
+     * @param reference the reference to wrap
+     * @param <T>       the proxied type
+     * @return the new proxy
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T createProxy(final Class<?> type, final MorphiaReference<?> reference) {
+        return (T) proxyTypes.computeIfAbsent(type, this::generate)
+                             .newInstance(new ReferenceProxy(reference));
+    }
+
+    /**
+     * Generates the proxy types for any lazy references found on the mapped type.
+     *
+     * @param mappedClass the type to inspect
+     */
+    public void prebuild(final MappedClass mappedClass) {
+        for (final MappedField field : mappedClass.getFields(Reference.class)) {
+            if (field.getAnnotation(Reference.class).lazy()) {
+                proxyTypes.computeIfAbsent(field.getField().getType(), this::generate);
+            }
+        }
+    }
+
+    /**
+     * @param type the type to check
+     * @return true if a proxy type has already been generated for the type
+     */
+    public boolean isGenerated(final Class<?> type) {
+        return proxyTypes.containsKey(type);
+    }
+
+    private ProxyType generate(final Class<?> type) {
+        String name = (type.getPackageName().startsWith("java") ? type.getSimpleName() : type.getName()) + "$$Proxy";
+        Class<?> loaded = new ByteBuddy()
+                              .subclass(type)
+                              .implement(MorphiaProxy.class)
+                              .name(name)
+                              .defineField(HANDLER_FIELD, InvocationHandler.class, Visibility.PUBLIC)
+
+                              .invokable(ElementMatchers.isDeclaredBy(type))
+                              .intercept(InvocationHandlerAdapter.toField(HANDLER_FIELD))
+
+                              .method(ElementMatchers.isDeclaredBy(MorphiaProxy.class))
+                              .intercept(InvocationHandlerAdapter.toField(HANDLER_FIELD))
+
+                              .make()
+                              .load(classLoader, Default.WRAPPER)
+                              .getLoaded();
+        try {
+            Lookup lookup = MethodHandles.publicLookup();
+            return new ProxyType(lookup.findConstructor(loaded, methodType(void.class)),
+                lookup.findSetter(loaded, HANDLER_FIELD, InvocationHandler.class));
+        } catch (ReflectiveOperationException e) {
+            throw new MappingException(e.getMessage(), e);
+        }
+    }
+
+    private static class ProxyType {
+        private final MethodHandle constructor;
+        private final MethodHandle handler;
+
+        ProxyType(final MethodHandle constructor, final MethodHandle handler) {
+            this.constructor = constructor;
+            this.handler = handler;
+        }
+
+        Object newInstance(final InvocationHandler invocationHandler) {
+            try {
+                Object proxy = constructor.invoke();
+                handler.invoke(proxy, invocationHandler);
+                return proxy;
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new MappingException(e.getMessage(), e);
+            }
+        }
+    }
+}
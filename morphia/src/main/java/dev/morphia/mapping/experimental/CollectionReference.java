@@ -149,13 +149,22 @@ public abstract class CollectionReference<C extends Collection> extends MorphiaR
 
     Map<Object, Object> query(final String collection, final List<Object> collectionIds) {
 
+        final Map<Object, Object> loaded = findLoaded(collection, collectionIds);
+        if (loaded != null) {
+            if (!ignoreMissing() && loaded.size() != collectionIds.size()) {
+                throw new ReferenceException(
+                    Sofia.missingReferencedEntities(mappedClass.getType().getSimpleName()));
+            }
+            return loaded;
+        }
+
         final Map<Object, Object> idMap = new HashMap<>();
         try (MongoCursor<?> cursor = ((AdvancedDatastore) getDatastore()).find(collection)
                                                                          .disableValidation()
                                                                          .filter("_id in ", collectionIds)
                                                                          .execute()) {
             while (cursor.hasNext()) {
-                final Object entity = cursor.next();
+                final Object entity = register(cursor.next());
                 idMap.put(getDatastore().getMapper().getId(entity), entity);
             }
 
@@ -7,11 +7,15 @@ import dev.morphia.mapping.codec.pojo.EntityModel;
 import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.sofia.Sofia;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
-import java.util.LinkedHashMap;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.function.BiFunction;
 
 /**
  * Defines a Creator that uses a full constructor to create an instance rather than field injection.  This requires that a class have a
@@ -22,40 +26,22 @@ import java.util.function.BiFunction;
  */
 @SuppressWarnings("unchecked")
 public class ConstructorCreator<T> implements MorphiaInstanceCreator<T> {
+    private final BindingPlan<T> plan;
     private final Object[] parameters;
-    private Constructor<T> constructor;
-    private EntityModel model;
-    private Map<String, BiFunction<Object[], Object, Void>> positions = new LinkedHashMap<>();
 
     /**
      * @param model the model
      */
-    public ConstructorCreator(final EntityModel model) {
-        this.model = model;
-        constructor = getFullConstructor(model);
-        if (constructor == null) {
-            throw new MappingException(Sofia.noSuitableConstructor(model.getType()));
-        }
-        constructor.setAccessible(true);
-
-        final Parameter[] constructorParameters = constructor.getParameters();
-        this.parameters = new Object[constructorParameters.length];
-        for (int i = 0; i < constructorParameters.length; i++) {
-            final Parameter parameter = constructorParameters[i];
-            final int finalI = i;
-            String name = getParameterName(parameter);
-            if (name.matches("arg[0-9]+")) {
-                throw new MappingException(Sofia.unnamedConstructorParameter(model.getType().getName()));
-            }
-            BiFunction<Object[], Object, Void> old = positions.put(name, (Object[] params, Object v) -> {
-                params[finalI] = v;
-                return null;
-            });
+    public ConstructorCreator(final EntityModel<T> model) {
+        this(BindingPlan.of(model));
+    }
 
-            if (old != null) {
-                throw new MappingException(Sofia.duplicatedParameterName(model.getType().getName(), name));
-            }
-        }
+    /**
+     * @param plan the binding plan for the model's constructor
+     */
+    public ConstructorCreator(final BindingPlan<T> plan) {
+        this.plan = plan;
+        this.parameters = plan.defaults.clone();
     }
 
     /**
@@ -86,15 +72,108 @@ public class ConstructorCreator<T> implements MorphiaInstanceCreator<T> {
 
     @Override
     public <S> void set(final S value, final FieldModel<S> model) {
-        positions.get(model.getName()).apply(parameters, value);
+        final int ordinal = model.getOrdinal();
+        final int slot = ordinal >= 0 && ordinal < plan.slots.length ? plan.slots[ordinal] : -1;
+        if (slot < 0) {
+            throw new MappingException(Sofia.noSuitableConstructor(plan.model.getType()));
+        }
+        parameters[slot] = value;
     }
 
     @Override
     public T getInstance() {
         try {
-            return constructor.newInstance(parameters);
-        } catch (ReflectiveOperationException e) {
-            throw new MappingException(Sofia.cannotInstantiate(model.getType().getName(), e.getMessage()));
+            return (T) plan.constructor.invokeExact(parameters);
+        } catch (Throwable e) {
+            throw new MappingException(Sofia.cannotInstantiate(plan.model.getType().getName(), e.getMessage()));
+        }
+    }
+
+    /**
+     * The result of analyzing an entity's full constructor.  A plan is built once per model and shared by the creators for that model
+     * so that decoding a document only needs to fill an array of arguments and invoke the constructor.
+     *
+     * @param <T> the model type
+     * @morphia.internal
+     */
+    public static final class BindingPlan<T> {
+        private final EntityModel<T> model;
+        private final MethodHandle constructor;
+        private final int[] slots;
+        private final Object[] defaults;
+
+        private BindingPlan(final EntityModel<T> model, final MethodHandle constructor, final int[] slots, final Object[] defaults) {
+            this.model = model;
+            this.constructor = constructor;
+            this.slots = slots;
+            this.defaults = defaults;
+        }
+
+        /**
+         * Analyzes the full constructor of a model
+         *
+         * @param model the model
+         * @param <T>   the model type
+         * @return the plan
+         * @throws MappingException if the model has no suitable constructor or its parameters can not be matched to fields
+         */
+        public static <T> BindingPlan<T> of(final EntityModel<T> model) {
+            final Constructor<T> constructor = getFullConstructor(model);
+            if (constructor == null) {
+                throw new MappingException(Sofia.noSuitableConstructor(model.getType()));
+            }
+            constructor.setAccessible(true);
+
+            final Parameter[] constructorParameters = constructor.getParameters();
+            final Map<String, Integer> positions = new HashMap<>();
+            final Object[] defaults = new Object[constructorParameters.length];
+            for (int i = 0; i < constructorParameters.length; i++) {
+                final Parameter parameter = constructorParameters[i];
+                String name = getParameterName(parameter);
+                if (isSynthesizedName(name)) {
+                    throw new MappingException(Sofia.unnamedConstructorParameter(model.getType().getName()));
+                }
+                if (positions.put(name, i) != null) {
+                    throw new MappingException(Sofia.duplicatedParameterName(model.getType().getName(), name));
+                }
+                if (parameter.getType().isPrimitive()) {
+                    defaults[i] = Array.get(Array.newInstance(parameter.getType(), 1), 0);
+                }
+            }
+
+            final int[] slots = new int[model.getFieldModelCount()];
+            Arrays.fill(slots, -1);
+            for (final FieldModel<?> fieldModel : model.getFieldModels()) {
+                Integer position = positions.get(fieldModel.getName());
+                if (position == null) {
+                    position = positions.get(fieldModel.getMappedName());
+                }
+                if (position != null && fieldModel.getOrdinal() >= 0) {
+                    slots[fieldModel.getOrdinal()] = position;
+                }
+            }
+
+            try {
+                final MethodHandle handle = MethodHandles.lookup()
+                                                         .unreflectConstructor(constructor)
+                                                         .asSpreader(Object[].class, constructorParameters.length)
+                                                         .asType(MethodType.methodType(Object.class, Object[].class));
+                return new BindingPlan<>(model, handle, slots, defaults);
+            } catch (IllegalAccessException e) {
+                throw new MappingException(Sofia.cannotInstantiate(model.getType().getName(), e.getMessage()));
+            }
+        }
+
+        private static boolean isSynthesizedName(final String name) {
+            if (name.length() <= 3 || !name.startsWith("arg")) {
+                return false;
+            }
+            for (int i = 3; i < name.length(); i++) {
+                if (name.charAt(i) < '0' || name.charAt(i) > '9') {
+                    return false;
+                }
+            }
+            return true;
         }
     }
 }
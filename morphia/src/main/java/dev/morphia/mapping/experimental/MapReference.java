@@ -115,22 +115,24 @@ public class MapReference<T> extends MorphiaReference<Map<Object, T>> {
 
     @SuppressWarnings("unchecked")
     private void readFromSingleCollection(final String collection, final List<Object> collectionIds) {
-
-        try (MongoCursor<T> cursor = (MongoCursor<T>) ((AdvancedDatastore) getDatastore()).find(collection)
-                                                                                          .filter("_id in ", collectionIds)
-                                                                                          .execute()) {
-            final Map<Object, T> idMap = new HashMap<>();
-            while (cursor.hasNext()) {
-                final T entity = cursor.next();
-                idMap.put(getDatastore().getMapper().getId(entity), entity);
+        Map<Object, T> idMap = (Map<Object, T>) findLoaded(collection, collectionIds);
+        if (idMap == null) {
+            idMap = new HashMap<>();
+            try (MongoCursor<T> cursor = (MongoCursor<T>) ((AdvancedDatastore) getDatastore()).find(collection)
+                                                                                              .filter("_id in ", collectionIds)
+                                                                                              .execute()) {
+                while (cursor.hasNext()) {
+                    final T entity = register(cursor.next());
+                    idMap.put(getDatastore().getMapper().getId(entity), entity);
+                }
             }
+        }
 
-            for (final Entry<String, Object> entry : ids.entrySet()) {
-                final Object id = entry.getValue();
-                final T value = idMap.get(id instanceof DBRef ? ((DBRef) id).getId() : id);
-                if (value != null) {
-                    values.put(entry.getKey(), value);
-                }
+        for (final Entry<String, Object> entry : ids.entrySet()) {
+            final Object id = entry.getValue();
+            final T value = idMap.get(id instanceof DBRef ? ((DBRef) id).getId() : id);
+            if (value != null) {
+                values.put(entry.getKey(), value);
             }
         }
     }
@@ -3,10 +3,13 @@ package dev.morphia.mapping.experimental;
 import com.mongodb.DBRef;
 import dev.morphia.Datastore;
 import dev.morphia.annotations.Handler;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.MappedField;
 import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -21,6 +24,7 @@ import java.util.Set;
 @Handler(MorphiaReferenceCodec.class)
 public abstract class MorphiaReference<T> {
     private Datastore datastore;
+    private IdentityMap identityMap;
     private boolean ignoreMissing;
     private boolean resolved;
 
@@ -29,6 +33,7 @@ public abstract class MorphiaReference<T> {
 
     MorphiaReference(final Datastore datastore) {
         this.datastore = datastore;
+        this.identityMap = IdentityMap.current();
     }
 
     static Object wrapId(final Mapper mapper, final MappedField field, final Object entity) {
@@ -118,6 +123,33 @@ public abstract class MorphiaReference<T> {
 
     abstract Object getId(Mapper mapper, Datastore datastore, MappedClass mappedClass);
 
+    /**
+     * Finds referenced entities already loaded by the session that decoded this reference or by the batch currently being decoded
+     *
+     * @param collection the collection to search
+     * @param ids        the IDs to find
+     * @return the entities found mapped by their IDs or null if the collection needs to be queried
+     */
+    Map<Object, Object> findLoaded(final String collection, final Collection<?> ids) {
+        Map<Object, Object> loaded = identityMap != null ? identityMap.find(collection, ids) : null;
+        if (loaded == null) {
+            final ReferenceBatch batch = ReferenceBatch.current();
+            loaded = batch != null ? batch.find(collection, ids) : null;
+        }
+        return loaded;
+    }
+
+    /**
+     * Records an entity queried for this reference with the session that decoded it, if any
+     *
+     * @param entity the queried entity
+     * @param <E>    the entity type
+     * @return the instance to use for the entity
+     */
+    <E> E register(final E entity) {
+        return identityMap != null ? identityMap.register(entity) : entity;
+    }
+
     /**
      * @return the datastore
      * @morphia.internal
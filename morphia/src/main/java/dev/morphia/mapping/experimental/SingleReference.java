@@ -12,6 +12,7 @@ import dev.morphia.sofia.Sofia;
 import org.bson.Document;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @param <T>
@@ -70,7 +71,10 @@ public class SingleReference<T> extends MorphiaReference<T> {
     @Override
     public T get() {
         if (!isResolved() && value == null && id != null) {
-            value = (T) buildQuery().execute().tryNext();
+            Map<Object, Object> loaded = findLoaded();
+            value = loaded != null
+                    ? (T) loaded.values().stream().findFirst().orElse(null)
+                    : register((T) buildQuery().execute().tryNext());
             if (value == null && !ignoreMissing()) {
                 throw new ReferenceException(
                     Sofia.missingReferencedEntity(mappedClass.getType().getSimpleName()));
@@ -85,6 +89,19 @@ public class SingleReference<T> extends MorphiaReference<T> {
         return (Class<T>) mappedClass.getType();
     }
 
+    private Map<Object, Object> findLoaded() {
+        final String collection;
+        final Object key;
+        if (id instanceof DBRef) {
+            collection = ((DBRef) id).getCollectionName();
+            key = ((DBRef) id).getId();
+        } else {
+            collection = mappedClass.getCollectionName();
+            key = id;
+        }
+        return findLoaded(collection, List.of(key));
+    }
+
     Query<?> buildQuery() {
         final Query<?> query;
         if (id instanceof DBRef) {
@@ -32,6 +32,7 @@ import org.bson.types.ObjectId;
 
 import java.util.Map.Entry;
 import java.util.StringJoiner;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -65,6 +66,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
     private Projection projection;
     private String queryLogId;
     private ClientSession clientSession;
+    private int referenceBatchSize;
+    private Executor decodeExecutor;
+    private boolean decodeUnordered;
 
     /**
      * Creates an instance with default values
@@ -210,6 +214,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         this.projection = original.projection;
         this.queryLogId = original.queryLogId;
         this.clientSession = original.clientSession;
+        this.referenceBatchSize = original.referenceBatchSize;
+        this.decodeExecutor = original.decodeExecutor;
+        this.decodeUnordered = original.decodeUnordered;
 
         return this;
     }
@@ -225,6 +232,34 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         return this;
     }
 
+    /**
+     * Decodes the results on the given executor rather than on the thread iterating the results.  The next batch of results is read from
+     * the server while the current one is being consumed and each batch is decoded in parallel.  This option is ignored if the query runs
+     * in a session or uses {@link #referenceBatchSize(int)}.
+     *
+     * @param executor the executor to read and decode results on or null to decode them as they are iterated
+     * @return this
+     * @see #decodeUnordered(boolean)
+     * @since 2.0
+     */
+    public FindOptions decodeExecutor(final Executor executor) {
+        this.decodeExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Allows results decoded on a {@link #decodeExecutor(Executor) decode executor} to be returned as soon as they are decoded rather than
+     * in the order the server returned them.  Results are still returned one server batch at a time.
+     *
+     * @param decodeUnordered true if the results may be returned out of order
+     * @return this
+     * @since 2.0
+     */
+    public FindOptions decodeUnordered(final boolean decodeUnordered) {
+        this.decodeUnordered = decodeUnordered;
+        return this;
+    }
+
     /**
      * @return the batch size
      */
@@ -253,6 +288,14 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         return this.cursorType;
     }
 
+    /**
+     * @return the executor results are decoded on or null if they are decoded as they are iterated
+     * @since 2.0
+     */
+    public Executor getDecodeExecutor() {
+        return decodeExecutor;
+    }
+
     /**
      * @return the index hint
      */
@@ -321,6 +364,14 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         return readPreference;
     }
 
+    /**
+     * @return the number of entities whose references are resolved together or 0 if references are resolved individually
+     * @since 2.0
+     */
+    public int getReferenceBatchSize() {
+        return referenceBatchSize;
+    }
+
     /**
      * @return the skip count
      */
@@ -357,6 +408,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         result = 31 * result + (snapshot ? 1 : 0);
         result = 31 * result + (getReadPreference() != null ? getReadPreference().hashCode() : 0);
         result = 31 * result + (getProjection() != null ? getProjection().hashCode() : 0);
+        result = 31 * result + referenceBatchSize;
+        result = 31 * result + (decodeExecutor != null ? decodeExecutor.hashCode() : 0);
+        result = 31 * result + (decodeUnordered ? 1 : 0);
         return result;
     }
 
@@ -386,6 +440,12 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         if (getSkip() != that.getSkip()) {
             return false;
         }
+        if (getReferenceBatchSize() != that.getReferenceBatchSize()) {
+            return false;
+        }
+        if (decodeExecutor != that.decodeExecutor || decodeUnordered != that.decodeUnordered) {
+            return false;
+        }
         if (isNoCursorTimeout() != that.isNoCursorTimeout()) {
             return false;
         }
@@ -455,6 +515,9 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
                    .add("readPreference=" + readPreference)
                    .add("projection=" + projection)
                    .add("queryLogId='" + queryLogId + "'")
+                   .add("referenceBatchSize=" + referenceBatchSize)
+                   .add("decodeExecutor=" + decodeExecutor)
+                   .add("decodeUnordered=" + decodeUnordered)
                    .toString();
     }
 
@@ -491,6 +554,14 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         return this;
     }
 
+    /**
+     * @return true if results decoded on an executor may be returned out of order
+     * @since 2.0
+     */
+    public boolean isDecodeUnordered() {
+        return decodeUnordered;
+    }
+
     /**
      * This is an experimental method.  It's implementation and presence are subject to change.
      *
@@ -663,6 +734,19 @@ public final class FindOptions implements SessionConfigurable<FindOptions> {
         return this;
     }
 
+    /**
+     * Resolves the eager references of the results in batches.  Rather than querying for each reference as each entity is decoded, the
+     * references of the given number of entities are collected and each referenced collection is queried once for the whole batch.
+     *
+     * @param referenceBatchSize the number of entities to decode together.  0, the default, resolves each reference individually.
+     * @return this
+     * @since 2.0
+     */
+    public FindOptions referenceBatchSize(final int referenceBatchSize) {
+        this.referenceBatchSize = referenceBatchSize;
+        return this;
+    }
+
     /**
      * Sets if only the key value should be returned
      *
@@ -10,6 +10,7 @@ import dev.morphia.Datastore;
 import dev.morphia.DatastoreImpl;
 import dev.morphia.DeleteOptions;
 import dev.morphia.annotations.Entity;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
@@ -213,7 +214,9 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
 
     @Override
     public MorphiaCursor<T> execute(final FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        final MongoCursor<T> cursor = prepareCursor(options, getCollection(options));
+        final IdentityMap identityMap = datastore.getIdentityMap();
+        return new MorphiaCursor<>(identityMap != null ? identityMap.track(cursor) : cursor);
     }
 
     @Override
@@ -230,8 +233,9 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
 
     @Override
     public T delete(final FindAndDeleteOptions options) {
-        MongoCollection<T> mongoCollection = options.apply(getCollection());
+        MongoCollection<T> mongoCollection = mapper.getCollection(clazz, null, null, options.writeConcern());
         ClientSession session = datastore.findSession(options);
+        invalidateLoaded();
         return session == null
                ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
                : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
@@ -262,8 +266,9 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
 
     @Override
     public DeleteResult remove(final DeleteOptions options) {
-        MongoCollection<T> collection = options.apply(getCollection());
+        MongoCollection<T> collection = mapper.getCollection(clazz, null, null, options.writeConcern());
         ClientSession session = datastore.findSession(options);
+        invalidateLoaded();
         if (options.isMulti()) {
             return session == null
                    ? collection.deleteMany(getQueryDocument(), options)
@@ -338,6 +343,13 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         return collectionName;
     }
 
+    private void invalidateLoaded() {
+        final IdentityMap identityMap = datastore.getIdentityMap();
+        if (identityMap != null) {
+            identityMap.invalidate(getCollectionName());
+        }
+    }
+
     /**
      * @return the entity {@link Class}.
      * @morphia.internal
@@ -395,6 +407,15 @@ public class LegacyQuery<T> implements CriteriaContainer, Query<T> {
         return collection;
     }
 
+    /**
+     * @return the collection this query targets with the read preference of the options applied, as cached by the mapper
+     */
+    private MongoCollection<T> getCollection(final FindOptions options) {
+        return options.getReadPreference() != null
+               ? mapper.getCollection(clazz, options.getReadPreference(), null, null)
+               : getCollection();
+    }
+
     private Document getQueryDocument() {
         final Document obj = new Document();
 
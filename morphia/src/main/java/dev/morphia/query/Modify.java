@@ -41,9 +41,11 @@ public class Modify<T> extends UpdateBase<T, Modify<T>> {
      */
     public T execute(final FindAndModifyOptions options) {
         ClientSession session = getDatastore().findSession(options);
+        invalidateLoaded(collection);
 
+        final MongoCollection<T> target = getCollection(options.writeConcern());
         return session == null
-               ? options.apply(collection).findOneAndUpdate(query.toDocument(), toDocument(), options)
-               : options.apply(collection).findOneAndUpdate(session, query.toDocument(), toDocument(), options);
+               ? target.findOneAndUpdate(query.toBson(), toDocument(), options)
+               : target.findOneAndUpdate(session, query.toBson(), toDocument(), options);
     }
 }
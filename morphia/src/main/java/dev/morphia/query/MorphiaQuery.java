@@ -10,6 +10,7 @@ import dev.morphia.Datastore;
 import dev.morphia.DatastoreImpl;
 import dev.morphia.DeleteOptions;
 import dev.morphia.annotations.Entity;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.codec.DocumentWriter;
@@ -17,11 +18,30 @@ import dev.morphia.query.Shape.Center;
 import dev.morphia.query.experimental.filters.Filter;
 import dev.morphia.query.experimental.filters.Filters;
 import dev.morphia.query.experimental.filters.NearFilter;
+import dev.morphia.query.internal.CursorSpliterator;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
+import dev.morphia.query.internal.ParallelDecodingCursor;
+import dev.morphia.query.internal.QueryWriter;
+import dev.morphia.query.internal.QueryWriter.UnmergeableException;
+import dev.morphia.query.internal.ReferenceBatchingCursor;
+import dev.morphia.query.internal.TemplateWriter;
+import dev.morphia.query.internal.TemplateWriter.Marker;
 import dev.morphia.sofia.Sofia;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonString;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.io.BasicOutputBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,8 +49,12 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.mongodb.CursorType.NonTailable;
 import static dev.morphia.query.experimental.filters.Filters.text;
@@ -122,7 +146,7 @@ public class MorphiaQuery<T> implements Query<T> {
         return new LinkedHashMap<>(datastore.getDatabase()
                                             .runCommand(new Document("explain",
                                                 new Document("find", getCollection().getNamespace().getCollectionName())
-                                                    .append("filter", getQueryDocument()))));
+                                                    .append("filter", encodeQuery(null, false)))));
     }
 
     @Override
@@ -150,24 +174,36 @@ public class MorphiaQuery<T> implements Query<T> {
      */
     public Document toDocument() {
         final Document query = getQueryDocument();
-        MappedClass mappedClass = mapper.getMappedClass(getEntityClass());
-        Entity entityAnnotation = mappedClass != null ? mappedClass.getEntityAnnotation() : null;
-        if (entityAnnotation != null && entityAnnotation.useDiscriminator()
+        MappedClass mappedClass = getDiscriminatedClass();
+        if (mappedClass != null
             && !query.containsKey("_id")
             && !query.containsKey(mappedClass.getEntityModel().getDiscriminatorKey())) {
-
-            List<MappedClass> subtypes = mapper.getMappedClass(getEntityClass()).getSubtypes();
-            List<String> values = new ArrayList<>();
-            values.add(mappedClass.getEntityModel().getDiscriminator());
-            for (final MappedClass subtype : subtypes) {
-                values.add(subtype.getEntityModel().getDiscriminator());
-            }
             query.put(mappedClass.getEntityModel().getDiscriminatorKey(),
-                new Document("$in", values));
+                new Document("$in", getDiscriminatorValues(mappedClass)));
         }
         return query;
     }
 
+    /**
+     * Converts the query to a Bson which encodes the filters directly to BSON when the driver asks for the query rather than building a
+     * Document first.
+     *
+     * @return the query
+     * @morphia.internal
+     * @see #toDocument()
+     */
+    @Override
+    public Bson toBson() {
+        return new QueryBson(true);
+    }
+
+    @Override
+    public PreparedQuery<T> prepare() {
+        final List<Marker> markers = new ArrayList<>();
+        final BsonDocument template = encodeQuery(markers, false);
+        return new PreparedQuery<>(this, mapper, template, discriminatorClause(template), markers);
+    }
+
     @Override
     public Query<T> search(final String searchText) {
         return filter(text(searchText));
@@ -196,7 +232,7 @@ public class MorphiaQuery<T> implements Query<T> {
                                                  .include("_id");
 
         return new MorphiaKeyCursor<>(prepareCursor(includeId,
-            datastore.getDatabase().getCollection(getCollectionName())), datastore.getMapper(),
+            datastore.getDatabase().getCollection(getCollectionName()), toBson()), datastore.getMapper(),
             clazz, getCollectionName());
     }
 
@@ -207,8 +243,11 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public long count(final CountOptions options) {
+        return count(options, new QueryBson(false));
+    }
+
+    long count(final CountOptions options, final Bson query) {
         ClientSession session = datastore.findSession(options);
-        Document query = getQueryDocument();
         return session == null ? getCollection().countDocuments(query, options)
                                : getCollection().countDocuments(session, query, options);
     }
@@ -220,7 +259,44 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public MorphiaCursor<T> execute(final FindOptions options) {
-        return new MorphiaCursor<>(prepareCursor(options, getCollection()));
+        return execute(options, toBson());
+    }
+
+    MorphiaCursor<T> execute(final FindOptions options, final Bson query) {
+        final MongoCursor<T> cursor;
+        if (options.getReferenceBatchSize() > 0
+            && ReferenceBatchingCursor.hasEagerReferences(mapper.getMappedClass(clazz))) {
+            cursor = new ReferenceBatchingCursor<>(
+                prepareCursor(options, getCollection(options).withDocumentClass(RawBsonDocument.class), query), datastore, clazz,
+                options.getReferenceBatchSize());
+        } else if (options.getDecodeExecutor() != null && datastore.findSession(options) == null) {
+            cursor = new ParallelDecodingCursor<>(
+                prepareCursor(options, getCollection(options).withDocumentClass(RawBsonDocument.class), query),
+                getCollection().getCodecRegistry().get(clazz), options.getDecodeExecutor(), options.getBatchSize(),
+                !options.isDecodeUnordered());
+        } else {
+            cursor = prepareCursor(options, getCollection(options), query);
+        }
+        final IdentityMap identityMap = datastore.getIdentityMap();
+        return new MorphiaCursor<>(identityMap != null ? identityMap.track(cursor) : cursor);
+    }
+
+    @Override
+    public Stream<T> stream(final FindOptions options) {
+        if (options.getReferenceBatchSize() > 0 || options.getDecodeExecutor() != null
+            || datastore.findSession(options) != null || datastore.getIdentityMap() != null) {
+            return Query.super.stream(options);
+        }
+        final MongoCursor<RawBsonDocument> cursor = prepareCursor(options, getCollection(options).withDocumentClass(RawBsonDocument.class),
+            toBson());
+        final Codec<T> codec = getCollection().getCodecRegistry().get(clazz);
+        final Function<RawBsonDocument, T> decoder = document -> {
+            try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+                return codec.decode(reader, DecoderContext.builder().build());
+            }
+        };
+        return StreamSupport.stream(new CursorSpliterator<>(cursor, decoder, options.getBatchSize(), options.getLimit()), false)
+                            .onClose(cursor::close);
     }
 
     @Override
@@ -237,11 +313,12 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public T delete(final FindAndDeleteOptions options) {
-        MongoCollection<T> mongoCollection = options.apply(getCollection());
+        MongoCollection<T> mongoCollection = mapper.getCollection(clazz, null, null, options.writeConcern());
         ClientSession session = datastore.findSession(options);
+        invalidateLoaded();
         return session == null
-               ? mongoCollection.findOneAndDelete(getQueryDocument(), options)
-               : mongoCollection.findOneAndDelete(session, getQueryDocument(), options);
+               ? mongoCollection.findOneAndDelete(new QueryBson(false), options)
+               : mongoCollection.findOneAndDelete(session, new QueryBson(false), options);
     }
 
     @Override
@@ -251,16 +328,18 @@ public class MorphiaQuery<T> implements Query<T> {
 
     @Override
     public DeleteResult remove(final DeleteOptions options) {
-        MongoCollection<T> collection = options.apply(getCollection());
+        MongoCollection<T> collection = mapper.getCollection(clazz, null, null, options.writeConcern());
         ClientSession session = datastore.findSession(options);
+        invalidateLoaded();
+        final Bson query = new QueryBson(false);
         if (options.isMulti()) {
             return session == null
-                   ? collection.deleteMany(getQueryDocument(), options)
-                   : collection.deleteMany(session, getQueryDocument(), options);
+                   ? collection.deleteMany(query, options)
+                   : collection.deleteMany(session, query, options);
         } else {
             return session == null
-                   ? collection.deleteOne(getQueryDocument(), options)
-                   : collection.deleteOne(session, getQueryDocument(), options);
+                   ? collection.deleteOne(query, options)
+                   : collection.deleteOne(session, query, options);
         }
     }
 
@@ -277,6 +356,21 @@ public class MorphiaQuery<T> implements Query<T> {
         return clazz;
     }
 
+    private MappedClass getDiscriminatedClass() {
+        MappedClass mappedClass = mapper.getMappedClass(getEntityClass());
+        Entity entityAnnotation = mappedClass != null ? mappedClass.getEntityAnnotation() : null;
+        return entityAnnotation != null && entityAnnotation.useDiscriminator() ? mappedClass : null;
+    }
+
+    private List<String> getDiscriminatorValues(final MappedClass mappedClass) {
+        List<String> values = new ArrayList<>();
+        values.add(mappedClass.getEntityModel().getDiscriminator());
+        for (final MappedClass subtype : mappedClass.getSubtypes()) {
+            values.add(subtype.getEntityModel().getDiscriminator());
+        }
+        return values;
+    }
+
     Document getQueryDocument() {
         DocumentWriter writer = new DocumentWriter(seedQuery);
         writer.writeStartDocument();
@@ -332,7 +426,7 @@ public class MorphiaQuery<T> implements Query<T> {
     public String toString() {
         return new StringJoiner(", ", MorphiaQuery.class.getSimpleName() + "[", "]")
                    .add("clazz=" + clazz.getSimpleName())
-                   .add("query=" + getQueryDocument())
+                   .add("query=" + encodeQuery(null, false).toJson())
                    .toString();
     }
 
@@ -347,6 +441,15 @@ public class MorphiaQuery<T> implements Query<T> {
         return collection;
     }
 
+    /**
+     * @return the collection this query targets with the read preference of the options applied, as cached by the mapper
+     */
+    private MongoCollection<T> getCollection(final FindOptions options) {
+        return options.getReadPreference() != null
+               ? mapper.getCollection(clazz, options.getReadPreference(), null, null)
+               : getCollection();
+    }
+
     private String getCollectionName() {
         if (collectionName == null) {
             collectionName = getCollection().getNamespace().getCollectionName();
@@ -354,9 +457,14 @@ public class MorphiaQuery<T> implements Query<T> {
         return collectionName;
     }
 
-    private <E> MongoCursor<E> prepareCursor(final FindOptions findOptions, final MongoCollection<E> collection) {
-        final Document query = toDocument();
+    private void invalidateLoaded() {
+        final IdentityMap identityMap = datastore.getIdentityMap();
+        if (identityMap != null) {
+            identityMap.invalidate(getCollectionName());
+        }
+    }
 
+    private <E> MongoCursor<E> prepareCursor(final FindOptions findOptions, final MongoCollection<E> collection, final Bson query) {
         if (LOG.isTraceEnabled()) {
             LOG.trace(format("Running query(%s) : %s, options: %s,", getCollectionName(), query, findOptions));
         }
@@ -389,6 +497,129 @@ public class MorphiaQuery<T> implements Query<T> {
         }
     }
 
+    /**
+     * Encodes the filters of this query directly to BSON.  Unless a template is being written, the filters are streamed in to a
+     * {@link RawBsonDocument} with no intermediate documents.  Queries seeded with a document, and filters repeating a field in a way that
+     * can only be merged after the fact, are built as a {@link BsonDocument} instead.
+     *
+     * @param markers      if not null, any placeholders in the filters are written as markers and collected in to this list
+     * @param discriminate true if the discriminator clause should be added as {@link #toDocument()} does.  Counts and deletes leave it
+     *                     out as they always have.
+     * @return the query
+     */
+    BsonDocument encodeQuery(final List<Marker> markers, final boolean discriminate) {
+        if (markers == null && seedQuery == null) {
+            final RawBsonDocument streamed = streamQuery(discriminate);
+            if (streamed != null) {
+                return streamed;
+            }
+        }
+        final BsonDocument query = seedQuery != null
+                                   ? seedQuery.toBsonDocument(Document.class, mapper.getCodecRegistry())
+                                   : new BsonDocument();
+        EncoderContext context = EncoderContext.builder().build();
+        for (Filter filter : filters) {
+            BsonDocument encoded = new BsonDocument();
+            BsonDocumentWriter writer = markers != null
+                                        ? new TemplateWriter(encoded, markers)
+                                        : new BsonDocumentWriter(encoded);
+            writer.writeStartDocument();
+            filter.encode(mapper, writer, context);
+            writer.writeEndDocument();
+            merge(query, encoded);
+        }
+
+        final BsonDocument discriminator = discriminate ? discriminatorClause(query) : null;
+        if (discriminator != null) {
+            query.putAll(discriminator);
+        }
+        return query;
+    }
+
+    /**
+     * @return the streamed query or null if the filters could not be merged while streaming
+     */
+    private RawBsonDocument streamQuery(final boolean discriminate) {
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (QueryWriter writer = new QueryWriter(buffer)) {
+            writer.writeStartDocument();
+            final EncoderContext context = EncoderContext.builder().build();
+            for (final Filter filter : filters) {
+                filter.encode(mapper, writer, context);
+            }
+            final MappedClass mappedClass = discriminate ? getDiscriminatedClass() : null;
+            if (mappedClass != null
+                && !writer.hasField("_id")
+                && !writer.hasField(mappedClass.getEntityModel().getDiscriminatorKey())) {
+                writer.writeStartDocument(mappedClass.getEntityModel().getDiscriminatorKey());
+                writer.writeStartArray("$in");
+                for (final String value : getDiscriminatorValues(mappedClass)) {
+                    writer.writeString(value);
+                }
+                writer.writeEndArray();
+                writer.writeEndDocument();
+            }
+            writer.writeEndDocument();
+        } catch (UnmergeableException e) {
+            return null;
+        }
+        return new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+    }
+
+    /**
+     * @param query the encoded filters
+     * @return the discriminator clause to add to the filters or null if none is needed
+     */
+    private BsonDocument discriminatorClause(final BsonDocument query) {
+        MappedClass mappedClass = getDiscriminatedClass();
+        if (mappedClass == null
+            || query.containsKey("_id")
+            || query.containsKey(mappedClass.getEntityModel().getDiscriminatorKey())) {
+            return null;
+        }
+        BsonArray values = new BsonArray();
+        for (final String value : getDiscriminatorValues(mappedClass)) {
+            values.add(new BsonString(value));
+        }
+        return new BsonDocument(mappedClass.getEntityModel().getDiscriminatorKey(), new BsonDocument("$in", values));
+    }
+
+    /**
+     * Merges filters on the same field the same way {@link DocumentWriter} does
+     */
+    private void merge(final BsonDocument query, final BsonDocument encoded) {
+        for (final Entry<String, BsonValue> entry : encoded.entrySet()) {
+            BsonValue extant = query.get(entry.getKey());
+            if (isOperators(extant) && isOperators(entry.getValue())) {
+                ((BsonDocument) extant).putAll((BsonDocument) entry.getValue());
+            } else {
+                query.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static boolean isOperators(final BsonValue value) {
+        return value instanceof BsonDocument && !((BsonDocument) value).containsKey(TemplateWriter.MARKER);
+    }
+
+    private class QueryBson implements Bson {
+        private final boolean discriminate;
+
+        private QueryBson(final boolean discriminate) {
+            this.discriminate = discriminate;
+        }
+
+        @Override
+        public <TDocument> BsonDocument toBsonDocument(final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
+            return encodeQuery(null, discriminate);
+        }
+
+        @Override
+        public String toString() {
+            return encodeQuery(null, discriminate).toJson();
+        }
+    }
+
     private class MorphiaQueryFieldEnd extends FieldEndImpl {
         private final String name;
 
@@ -0,0 +1,338 @@
+package dev.morphia.query;
+
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.query.internal.TemplateWriter;
+import dev.morphia.query.internal.TemplateWriter.Marker;
+import dev.morphia.sofia.Sofia;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.bson.io.BasicOutputBuffer;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * A query whose filters have been encoded once with {@link dev.morphia.query.experimental.filters.Filters#placeholder(String) named
+ * placeholders} standing in for the values that change between executions.  Each execution binds values to those names and writes them
+ * straight in to the pre-encoded query so field paths, codecs, and the discriminator clause are not resolved again.
+ * <p>
+ * A prepared query is immutable and may be shared between threads.  Binding values returns a new {@link Bound} instance each time.
+ *
+ * @param <T> the entity type
+ * @see Query#prepare()
+ * @since 2.0
+ */
+public class PreparedQuery<T> {
+    private static final BsonValueCodec LITERALS = new BsonValueCodec();
+    private static final EncoderContext CONTEXT = EncoderContext.builder().build();
+
+    private final MorphiaQuery<T> query;
+    private final Mapper mapper;
+    private final BsonDocument template;
+    private final BsonDocument discriminator;
+    private final Map<String, Integer> names = new LinkedHashMap<>();
+    private final Slot[] slots;
+
+    PreparedQuery(final MorphiaQuery<T> query, final Mapper mapper, final BsonDocument template, final BsonDocument discriminator,
+                  final List<Marker> markers) {
+        this.query = query;
+        this.mapper = mapper;
+        this.template = template;
+        this.discriminator = discriminator;
+        slots = new Slot[markers.size()];
+        for (int i = 0; i < slots.length; i++) {
+            final Marker marker = markers.get(i);
+            final Integer index = names.computeIfAbsent(marker.getName(), n -> names.size());
+            slots[i] = new Slot(index, marker.getHandler());
+        }
+    }
+
+    /**
+     * Binds a value to a placeholder
+     *
+     * @param name  the name of the placeholder
+     * @param value the value to use
+     * @return the query with the value bound
+     */
+    public Bound<T> bind(final String name, final Object value) {
+        return new Bound<>(this).bind(name, value);
+    }
+
+    /**
+     * Binds values to placeholders
+     *
+     * @param values the values to use keyed by placeholder name
+     * @return the query with the values bound
+     */
+    public Bound<T> bind(final Map<String, ?> values) {
+        final Bound<T> bound = new Bound<>(this);
+        for (final Entry<String, ?> entry : values.entrySet()) {
+            bound.bind(entry.getKey(), entry.getValue());
+        }
+        return bound;
+    }
+
+    /**
+     * @return the names of the placeholders in this query
+     */
+    public List<String> getPlaceholders() {
+        return List.copyOf(names.keySet());
+    }
+
+    @Override
+    public String toString() {
+        final BsonDocument query = template.clone();
+        if (discriminator != null) {
+            query.putAll(discriminator);
+        }
+        return query.toJson();
+    }
+
+    private int index(final String name) {
+        final Integer index = names.get(name);
+        if (index == null) {
+            throw new QueryException(Sofia.unknownPlaceholder(name, names.keySet()));
+        }
+        return index;
+    }
+
+    private RawBsonDocument encode(final Object[] values, final boolean discriminate) {
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            writeQuery(writer, values, null, discriminate);
+        }
+        return new RawBsonDocument(buffer.toByteArray());
+    }
+
+    /**
+     * Writes the query with the values bound so far leaving the markers of any unbound placeholders in place
+     */
+    private String render(final Object[] values, final boolean[] bound) {
+        final BsonDocument document = new BsonDocument();
+        try (BsonDocumentWriter writer = new BsonDocumentWriter(document)) {
+            writeQuery(writer, values, bound, true);
+        }
+        return document.toJson();
+    }
+
+    private void writeQuery(final BsonWriter writer, final Object[] values, final boolean[] bound, final boolean discriminate) {
+        writer.writeStartDocument();
+        writeFields(writer, template, values, bound);
+        if (discriminate && discriminator != null) {
+            writeFields(writer, discriminator, values, bound);
+        }
+        writer.writeEndDocument();
+    }
+
+    private void writeFields(final BsonWriter writer, final BsonDocument document, final Object[] values, final boolean[] bound) {
+        for (final Entry<String, BsonValue> entry : document.entrySet()) {
+            writer.writeName(entry.getKey());
+            write(writer, entry.getValue(), values, bound);
+        }
+    }
+
+    private void write(final BsonWriter writer, final BsonValue value, final Object[] values, final boolean[] bound) {
+        if (value.isDocument()) {
+            final BsonDocument document = value.asDocument();
+            final BsonValue marker = document.size() == 1 ? document.get(TemplateWriter.MARKER) : null;
+            final Slot slot = marker != null ? slots[marker.asInt32().getValue()] : null;
+            if (slot != null && (bound == null || bound[slot.index])) {
+                slot.write(writer, values[slot.index], mapper);
+            } else {
+                writer.writeStartDocument();
+                writeFields(writer, document, values, bound);
+                writer.writeEndDocument();
+            }
+        } else if (value.isArray()) {
+            writer.writeStartArray();
+            for (final BsonValue element : (BsonArray) value) {
+                write(writer, element, values, bound);
+            }
+            writer.writeEndArray();
+        } else {
+            LITERALS.encode(writer, value, CONTEXT);
+        }
+    }
+
+    /**
+     * A prepared query with values bound to its placeholders.  This is also the filter passed to the driver and encodes the bound values
+     * each time the driver asks for it.
+     *
+     * @param <T> the entity type
+     */
+    public static class Bound<T> implements Bson {
+        private final PreparedQuery<T> prepared;
+        private final Object[] values;
+        private final boolean[] bound;
+
+        private Bound(final PreparedQuery<T> prepared) {
+            this.prepared = prepared;
+            values = new Object[prepared.names.size()];
+            bound = new boolean[values.length];
+        }
+
+        /**
+         * Binds a value to a placeholder
+         *
+         * @param name  the name of the placeholder
+         * @param value the value to use
+         * @return this
+         */
+        public Bound<T> bind(final String name, final Object value) {
+            final int index = prepared.index(name);
+            values[index] = value;
+            bound[index] = true;
+            return this;
+        }
+
+        /**
+         * Count the total number of values in the result, ignoring limit and offset
+         *
+         * @return the count
+         */
+        public long count() {
+            return count(new CountOptions());
+        }
+
+        /**
+         * Count the total number of values in the result, ignoring limit and offset
+         *
+         * @param options the options to apply to the count operation
+         * @return the count
+         */
+        public long count(final CountOptions options) {
+            verify();
+            return prepared.query.count(options, prepared.encode(values, false));
+        }
+
+        /**
+         * Execute the query and get the results.
+         *
+         * @return a MorphiaCursor
+         */
+        public MorphiaCursor<T> execute() {
+            return execute(new FindOptions());
+        }
+
+        /**
+         * Execute the query and get the results.
+         *
+         * @param options the options to apply to the find operation
+         * @return a MorphiaCursor
+         */
+        public MorphiaCursor<T> execute(final FindOptions options) {
+            verify();
+            return prepared.query.execute(options, this);
+        }
+
+        /**
+         * Gets the first entity in the result set.  Obeys the {@link Query} offset value.
+         *
+         * @return the only instance in the result, or null if the result set is empty.
+         */
+        public T first() {
+            return first(new FindOptions());
+        }
+
+        /**
+         * Gets the first entity in the result set.  Obeys the {@link Query} offset value.
+         *
+         * @param options the options to apply to the find operation
+         * @return the only instance in the result, or null if the result set is empty.
+         */
+        public T first(final FindOptions options) {
+            try (MorphiaCursor<T> cursor = execute(options.copy().limit(1))) {
+                return cursor.tryNext();
+            }
+        }
+
+        @Override
+        public <TDocument> BsonDocument toBsonDocument(final Class<TDocument> documentClass, final CodecRegistry codecRegistry) {
+            verify();
+            return prepared.encode(values, true);
+        }
+
+        @Override
+        public String toString() {
+            return prepared.render(values, bound);
+        }
+
+        private void verify() {
+            for (int i = 0; i < bound.length; i++) {
+                if (!bound[i]) {
+                    throw new QueryException(Sofia.unboundPlaceholder(prepared.getPlaceholders().get(i)));
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Bound)) {
+                return false;
+            }
+            final Bound<?> that = (Bound<?>) o;
+            return prepared == that.prepared && Arrays.equals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(prepared) + Arrays.hashCode(values);
+        }
+    }
+
+    private static final class Slot {
+        private final int index;
+        private final PropertyHandler handler;
+        private volatile Resolved resolved;
+
+        private Slot(final int index, final PropertyHandler handler) {
+            this.index = index;
+            this.handler = handler;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void write(final BsonWriter writer, final Object value, final Mapper mapper) {
+            final Object encoded = handler != null && value != null ? handler.encode(value) : value;
+            if (encoded == null) {
+                writer.writeNull();
+            } else if (encoded instanceof BsonValue) {
+                LITERALS.encode(writer, (BsonValue) encoded, CONTEXT);
+            } else {
+                Resolved current = resolved;
+                if (current == null || current.type != encoded.getClass()) {
+                    current = new Resolved(encoded.getClass(), mapper.getCodecRegistry().get(encoded.getClass()));
+                    resolved = current;
+                }
+                CONTEXT.encodeWithChildContext((Codec<Object>) current.codec, writer, encoded);
+            }
+        }
+    }
+
+    private static final class Resolved {
+        private final Class<?> type;
+        private final Codec<?> codec;
+
+        private Resolved(final Class<?> type, final Codec<?> codec) {
+            this.type = type;
+            this.codec = codec;
+        }
+    }
+}
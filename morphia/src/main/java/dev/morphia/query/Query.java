@@ -5,13 +5,18 @@ import com.mongodb.client.result.DeleteResult;
 import dev.morphia.DeleteOptions;
 import dev.morphia.FindAndModifyOptions;
 import dev.morphia.query.experimental.filters.Filter;
+import dev.morphia.query.internal.CursorSpliterator;
 import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.query.internal.MorphiaKeyCursor;
 import dev.morphia.sofia.Sofia;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static dev.morphia.query.MorphiaQuery.legacyOperation;
 
@@ -195,6 +200,15 @@ public interface Query<T> extends CriteriaContainer {
      */
     Document toDocument();
 
+    /**
+     * @return the form of this query to pass to the driver
+     * @morphia.internal
+     * @since 2.0
+     */
+    default Bson toBson() {
+        return toDocument();
+    }
+
     /**
      * Adds a field to the projection clause.  Passing true for include will include the field in the results.  Projected fields must all
      * be inclusions or exclusions.  You can not include and exclude fields at the same time with the exception of the _id field.  The
@@ -240,6 +254,19 @@ public interface Query<T> extends CriteriaContainer {
         return legacyOperation();
     }
 
+    /**
+     * Compiles this query in to a form that can be executed repeatedly with different values.  Field paths, codecs, and the
+     * discriminator clause are resolved once here while each execution only encodes the values bound to the
+     * {@link dev.morphia.query.experimental.filters.Filters#placeholder(String) placeholders} used in this query's filters.  Filters added
+     * to this query after it has been prepared do not affect the prepared query.
+     *
+     * @return the prepared query
+     * @since 2.0
+     */
+    default PreparedQuery<T> prepare() {
+        throw new UnsupportedOperationException(Sofia.notAvailableInLegacy());
+    }
+
     /**
      * Perform a text search on the content of the fields indexed with a text index..
      *
@@ -348,6 +375,32 @@ public interface Query<T> extends CriteriaContainer {
      */
     MorphiaCursor<T> execute(FindOptions options);
 
+    /**
+     * Execute the query and stream the results.
+     *
+     * @return the results
+     * @see #stream(FindOptions)
+     * @since 2.0
+     */
+    default Stream<T> stream() {
+        return stream(new FindOptions());
+    }
+
+    /**
+     * Execute the query and stream the results.  The stream splits on the query's batch size, so a parallel stream processes each batch
+     * read from the server on a separate thread.  If the options set a limit, it is reported as the stream's estimated size.  Closing the
+     * stream closes the server cursor.  Streams that are not fully consumed should be closed, e.g. with try-with-resources.
+     *
+     * @param options the options to apply to the find operation
+     * @return the results
+     * @since 2.0
+     */
+    default Stream<T> stream(FindOptions options) {
+        final MorphiaCursor<T> cursor = execute(options);
+        return StreamSupport.stream(new CursorSpliterator<>(cursor, Function.identity(), options.getBatchSize(), options.getLimit()), false)
+                            .onClose(cursor::close);
+    }
+
     /**
      * Gets the first entity in the result set.  Obeys the {@link Query} offset value.
      *
@@ -7,6 +7,7 @@ import dev.morphia.DatastoreImpl;
 import dev.morphia.UpdateOptions;
 import dev.morphia.mapping.Mapper;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
 /**
  * Defines an update operation
@@ -40,11 +41,12 @@ public class Update<T> extends UpdateBase<T, Update<T>> {
      * @return the results
      */
     public UpdateResult execute(final UpdateOptions options) {
-        MongoCollection mongoCollection = options.apply(collection);
+        MongoCollection mongoCollection = getCollection(options.writeConcern());
         Document updateOperations = toDocument();
-        final Document queryObject = query.toDocument();
+        final Bson queryObject = query.toBson();
 
         ClientSession session = getDatastore().findSession(options);
+        invalidateLoaded(collection);
         if (options.isMulti()) {
             return session == null ? mongoCollection.updateMany(queryObject, updateOperations, options)
                                    : mongoCollection.updateMany(session, queryObject, updateOperations, options);
@@ -1,6 +1,9 @@
 package dev.morphia.query;
 
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
 import dev.morphia.DatastoreImpl;
+import dev.morphia.experimental.IdentityMap;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.MappedClass;
 import dev.morphia.mapping.Mapper;
@@ -39,6 +42,26 @@ public abstract class UpdateBase<T, Updater extends Updates<Updater>> implements
         return datastore;
     }
 
+    /**
+     * @param writeConcern the write concern to use or null to use the collection's default
+     * @return the collection mapped for the updated type with the write concern applied, as cached by the mapper
+     */
+    protected MongoCollection<T> getCollection(final WriteConcern writeConcern) {
+        return mapper.getCollection(type, null, null, writeConcern);
+    }
+
+    /**
+     * Evicts the entities loaded from the updated collection from the identity map of the session issuing the update, if any
+     *
+     * @param collection the updated collection
+     */
+    protected void invalidateLoaded(final MongoCollection<?> collection) {
+        final IdentityMap identityMap = datastore.getIdentityMap();
+        if (identityMap != null) {
+            identityMap.invalidate(collection.getNamespace().getCollectionName());
+        }
+    }
+
     @Override
     public Updater addToSet(final String field, final Object value) {
         if (value == null) {
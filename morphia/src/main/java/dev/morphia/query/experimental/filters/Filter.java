@@ -3,6 +3,9 @@ package dev.morphia.query.experimental.filters;
 import dev.morphia.internal.PathTarget;
 import dev.morphia.mapping.Mapper;
 import dev.morphia.query.OperationTarget;
+import dev.morphia.query.QueryException;
+import dev.morphia.query.internal.TemplateWriter;
+import dev.morphia.sofia.Sofia;
 import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.Codec;
@@ -118,7 +121,7 @@ public class Filter {
     protected Object getValue(final Mapper mapper) {
         if (!mapped) {
             String field = field(mapper);
-            if (pathTarget != null) {
+            if (pathTarget != null && !(value instanceof Placeholder)) {
                 this.value = ((Document) new OperationTarget(pathTarget, value)
                                              .encode(mapper))
                                  .get(field);
@@ -131,7 +134,9 @@ public class Filter {
     protected void writeNamedValue(final String name, final Object named, final Mapper mapper, final BsonWriter writer,
                                    final EncoderContext encoderContext) {
         writer.writeName(name);
-        if (named != null) {
+        if (named instanceof Placeholder) {
+            writePlaceholder((Placeholder) named, writer);
+        } else if (named != null) {
             Codec codec = mapper.getCodecRegistry().get(named.getClass());
             encoderContext.encodeWithChildContext(codec, writer, named);
         } else {
@@ -141,11 +146,20 @@ public class Filter {
 
     protected void writeUnnamedValue(final Object value, final Mapper mapper, final BsonWriter writer,
                                      final EncoderContext encoderContext) {
-        if (value != null) {
+        if (value instanceof Placeholder) {
+            writePlaceholder((Placeholder) value, writer);
+        } else if (value != null) {
             Codec codec = mapper.getCodecRegistry().get(value.getClass());
             encoderContext.encodeWithChildContext(codec, writer, value);
         } else {
             writer.writeNull();
         }
     }
+
+    private void writePlaceholder(final Placeholder placeholder, final BsonWriter writer) {
+        if (!(writer instanceof TemplateWriter)) {
+            throw new QueryException(Sofia.unpreparedPlaceholder(placeholder.getName()));
+        }
+        ((TemplateWriter) writer).writePlaceholder(placeholder, pathTarget);
+    }
 }
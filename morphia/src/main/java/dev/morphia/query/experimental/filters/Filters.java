@@ -520,6 +520,18 @@ public final class Filters {
         return new Filter("$nin", field, val);
     }
 
+    /**
+     * Creates a named placeholder to use as a filter value in a query that will be prepared.  The value is supplied each time the
+     * prepared query is executed.
+     *
+     * @param name the name of the placeholder
+     * @return the placeholder
+     * @see dev.morphia.query.Query#prepare()
+     */
+    public static Placeholder placeholder(final String name) {
+        return new Placeholder(name);
+    }
+
     /**
      * Applies $or to a set of filters
      *
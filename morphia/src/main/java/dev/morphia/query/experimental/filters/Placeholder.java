@@ -0,0 +1,29 @@
+package dev.morphia.query.experimental.filters;
+
+/**
+ * A named value in a filter that is supplied each time a {@link dev.morphia.query.PreparedQuery} is executed.  Placeholders may be used
+ * wherever a filter takes a single value.
+ *
+ * @see Filters#placeholder(String)
+ * @see dev.morphia.query.Query#prepare()
+ * @since 2.0
+ */
+public final class Placeholder {
+    private final String name;
+
+    Placeholder(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return the name of this placeholder
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return ":" + name;
+    }
+}
@@ -0,0 +1,132 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.client.MongoCursor;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Adapts a cursor to a {@link Spliterator}.  Splitting takes the next batch of results from the cursor so each split lines up with a
+ * batch read from the server.  Results are only converted as they are traversed so when the cursor holds raw documents a parallel stream
+ * decodes each batch on the thread processing it.
+ *
+ * @param <S> the type read from the cursor
+ * @param <T> the result type
+ * @morphia.internal
+ * @since 2.0
+ */
+public class CursorSpliterator<S, T> implements Spliterator<T> {
+    /**
+     * The number of results taken per split when the query does not set a batch size
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private final MongoCursor<S> cursor;
+    private final Function<S, T> converter;
+    private final int batchSize;
+    private long estimate;
+
+    /**
+     * Creates a spliterator
+     *
+     * @param cursor    the cursor to read
+     * @param converter the function to convert each result with
+     * @param batchSize the number of results to take per split
+     * @param limit     the limit of the query or 0 if there is none
+     */
+    public CursorSpliterator(final MongoCursor<S> cursor, final Function<S, T> converter, final int batchSize, final int limit) {
+        this.cursor = cursor;
+        this.converter = converter;
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        estimate = limit != 0 ? Math.abs((long) limit) : Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (!cursor.hasNext()) {
+            cursor.close();
+            return false;
+        }
+        final S next = cursor.next();
+        if (estimate != Long.MAX_VALUE && estimate > 0) {
+            estimate--;
+        }
+        action.accept(converter.apply(next));
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final Object[] batch = new Object[batchSize];
+        int size = 0;
+        while (size < batchSize && cursor.hasNext()) {
+            batch[size++] = cursor.next();
+        }
+        if (size == 0) {
+            cursor.close();
+            return null;
+        }
+        if (estimate != Long.MAX_VALUE) {
+            estimate = Math.max(0, estimate - size);
+        }
+        return new Batch<>(batch, 0, size, converter);
+    }
+
+    @Override
+    public long estimateSize() {
+        return estimate;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private static final class Batch<S, T> implements Spliterator<T> {
+        private final Object[] results;
+        private final Function<S, T> converter;
+        private final int fence;
+        private int index;
+
+        private Batch(final Object[] results, final int index, final int fence, final Function<S, T> converter) {
+            this.results = results;
+            this.index = index;
+            this.fence = fence;
+            this.converter = converter;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (index >= fence) {
+                return false;
+            }
+            final S next = (S) results[index];
+            results[index++] = null;
+            action.accept(converter.apply(next));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            final Batch<S, T> prefix = new Batch<>(results, index, middle, converter);
+            index = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | SIZED | SUBSIZED;
+        }
+    }
+}
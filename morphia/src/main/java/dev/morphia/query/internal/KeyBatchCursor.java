@@ -0,0 +1,299 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.DatastoreImpl;
+import dev.morphia.GetByKeysOptions;
+import dev.morphia.Key;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.MappingException;
+import dev.morphia.query.FindOptions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads entities by key in chunks.  Each chunk is fetched with one {@code $in} query per collection and up to a configured number of
+ * those queries run at once ahead of the entities being consumed.  Entities are returned in the order of their keys followed by any
+ * loaded entities that could not be matched back to a key.  A key repeated within a chunk yields its entity once.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @since 2.0
+ */
+public class KeyBatchCursor<T> implements MongoCursor<T> {
+    private final DatastoreImpl datastore;
+    private final Iterator<? extends Key<T>> keys;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Executor executor;
+    private final Deque<Chunk<T>> pending = new ArrayDeque<>();
+    private final Deque<Load<T>> waiting = new ArrayDeque<>();
+    private int running;
+    private Iterator<T> current = Collections.emptyIterator();
+
+    /**
+     * Creates a cursor
+     *
+     * @param datastore the datastore to use
+     * @param keys      the keys to load
+     * @param options   the loading options
+     */
+    public KeyBatchCursor(final DatastoreImpl datastore, final Iterable<? extends Key<T>> keys, final GetByKeysOptions options) {
+        this.datastore = datastore;
+        this.keys = keys.iterator();
+        this.chunkSize = options.chunkSize();
+        if (options.parallelism() > 1 && datastore.getSession() == null && datastore.getIdentityMap() == null) {
+            parallelism = options.parallelism();
+            executor = options.executor() != null ? options.executor() : SharedPool.EXECUTOR;
+        } else {
+            parallelism = 1;
+            executor = null;
+        }
+    }
+
+    @Override
+    public void close() {
+        current = Collections.emptyIterator();
+        for (final Chunk<T> chunk : pending) {
+            chunk.cancel();
+        }
+        pending.clear();
+        waiting.clear();
+        running = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            try {
+                if (pending.isEmpty()) {
+                    readChunk();
+                }
+                start();
+                if (pending.isEmpty()) {
+                    close();
+                    return false;
+                }
+                current = merge(pending.poll()).iterator();
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return null;
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return null;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private void readChunk() {
+        if (!keys.hasNext()) {
+            return;
+        }
+        final List<Key<T>> chunkKeys = new ArrayList<>(chunkSize);
+        while (chunkKeys.size() < chunkSize && keys.hasNext()) {
+            final Key<T> key = keys.next();
+            datastore.getMapper().updateCollection(key);
+            chunkKeys.add(key);
+        }
+
+        final Map<String, List<Object>> ids = new LinkedHashMap<>();
+        for (final Key<T> key : chunkKeys) {
+            ids.computeIfAbsent(key.getCollection(), c -> new ArrayList<>())
+               .add(key.getId());
+        }
+        final Chunk<T> chunk = new Chunk<>(chunkKeys);
+        for (final Entry<String, List<Object>> entry : ids.entrySet()) {
+            final Load<T> load = new Load<>(entry.getKey(), new FutureTask<>(() -> load(entry.getKey(), entry.getValue())));
+            chunk.loads.add(load);
+            waiting.add(load);
+        }
+        pending.add(chunk);
+    }
+
+    /**
+     * Starts queued queries on the executor, reading further chunks as needed, until the configured number of queries are running.
+     * Queries are started in order so the next one to be consumed is always running before any that follow it.
+     */
+    private void start() {
+        if (executor == null) {
+            return;
+        }
+        while (running < parallelism) {
+            if (waiting.isEmpty()) {
+                readChunk();
+                if (waiting.isEmpty()) {
+                    return;
+                }
+            }
+            final Load<T> load = waiting.poll();
+            load.started = true;
+            running++;
+            executor.execute(load.task);
+        }
+    }
+
+    private List<T> merge(final Chunk<T> chunk) {
+        final Map<String, List<T>> loaded = new HashMap<>();
+        for (final Load<T> load : chunk.loads) {
+            if (load.started) {
+                final List<T> entities = await(load.task);
+                running--;
+                start();
+                loaded.put(load.collection, entities);
+            } else {
+                waiting.remove(load);
+                load.task.run();
+                loaded.put(load.collection, await(load.task));
+            }
+        }
+        return chunk.merge(datastore.getMapper(), loaded);
+    }
+
+    private List<T> load(final String collection, final List<Object> ids) {
+        return datastore.<T>find(collection)
+                   .disableValidation()
+                   .filter("_id in", ids)
+                   .execute(new FindOptions().batchSize(ids.size()))
+                   .toList();
+    }
+
+    private static Object normalize(final Object id) {
+        return id instanceof Integer || id instanceof Long || id instanceof Short || id instanceof Byte
+               ? (Object) ((Number) id).longValue()
+               : id;
+    }
+
+    private static <T> List<T> await(final Future<List<T>> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException
+                  ? (RuntimeException) e.getCause()
+                  : new MappingException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MongoInterruptedException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Holds the pool used when no executor is given.  The pool is shared by every cursor so its size is fixed and idle threads are
+     * released.  Each cursor separately bounds how many of its queries are running.
+     */
+    private static final class SharedPool {
+        private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+        private static final Executor EXECUTOR = create();
+
+        private static Executor create() {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(THREADS, THREADS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    final Thread thread = new Thread(runnable, "morphia-key-loader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    private static final class Load<T> {
+        private final String collection;
+        private final FutureTask<List<T>> task;
+        private boolean started;
+
+        private Load(final String collection, final FutureTask<List<T>> task) {
+            this.collection = collection;
+            this.task = task;
+        }
+    }
+
+    private static final class Chunk<T> {
+        private final List<Key<T>> keys;
+        private final List<Load<T>> loads = new ArrayList<>();
+
+        private Chunk(final List<Key<T>> keys) {
+            this.keys = keys;
+        }
+
+        private void cancel() {
+            for (final Load<T> load : loads) {
+                load.task.cancel(true);
+            }
+        }
+
+        private List<T> merge(final Mapper mapper, final Map<String, List<T>> results) {
+            final Map<String, Map<Object, T>> loaded = new HashMap<>();
+            for (final Entry<String, List<T>> entry : results.entrySet()) {
+                final Map<Object, T> byId = new HashMap<>();
+                for (final T entity : entry.getValue()) {
+                    byId.putIfAbsent(normalize(mapper.getId(entity)), entity);
+                }
+                loaded.put(entry.getKey(), byId);
+            }
+
+            final List<T> merged = new ArrayList<>(keys.size());
+            final Set<T> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (final Key<T> key : keys) {
+                final T entity = loaded.get(key.getCollection()).get(normalize(key.getId()));
+                if (entity != null && matched.add(entity)) {
+                    merged.add(entity);
+                }
+            }
+            for (final Map<Object, T> byId : loaded.values()) {
+                for (final T entity : byId.values()) {
+                    if (!matched.contains(entity)) {
+                        merged.add(entity);
+                    }
+                }
+            }
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.mapping.MappingException;
+import org.bson.BsonBinaryReader;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Reads the results of a query as raw documents and decodes them on an executor.  While one batch is being consumed the next is read
+ * from the server, issuing any {@code getMore} needed, and decoded in chunks in parallel.  Entities are returned in the order of the
+ * query results unless unordered results were requested in which case each batch is returned in the order its chunks finish decoding.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @since 2.0
+ */
+public class ParallelDecodingCursor<T> implements MongoCursor<T> {
+    /**
+     * The number of documents read per batch when the query does not set a batch size
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    private static final int CHUNK_SIZE = 16;
+
+    private final MongoCursor<RawBsonDocument> wrapped;
+    private final Codec<T> codec;
+    private final Executor executor;
+    private final int batchSize;
+    private final boolean ordered;
+    private CompletableFuture<Batch<T>> pending;
+    private Iterator<T> current = Collections.emptyIterator();
+    private volatile boolean closed;
+
+    /**
+     * Creates a cursor
+     *
+     * @param cursor    the cursor of raw documents
+     * @param codec     the codec to decode with
+     * @param executor  the executor to read and decode on
+     * @param batchSize the number of documents to read at a time
+     * @param ordered   true if the entities should be returned in the order of the query results
+     */
+    public ParallelDecodingCursor(final MongoCursor<RawBsonDocument> cursor, final Codec<T> codec, final Executor executor,
+                                  final int batchSize, final boolean ordered) {
+        this.wrapped = cursor;
+        this.codec = codec;
+        this.executor = executor;
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        this.ordered = ordered;
+        pending = CompletableFuture.supplyAsync(this::read, executor);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            current = Collections.emptyIterator();
+            if (pending != null) {
+                pending.whenComplete((batch, e) -> {
+                    if (batch != null) {
+                        batch.cancel();
+                    }
+                    wrapped.close();
+                });
+                pending = null;
+            } else {
+                wrapped.close();
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (!current.hasNext()) {
+                if (pending == null) {
+                    return false;
+                }
+                final Batch<T> batch = await(pending);
+                pending = batch.last ? null : CompletableFuture.supplyAsync(this::read, executor);
+                current = batch.iterator();
+            }
+            return true;
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private Batch<T> read() {
+        final List<RawBsonDocument> documents = new ArrayList<>(batchSize);
+        while (!closed && documents.size() < batchSize && wrapped.hasNext()) {
+            documents.add(wrapped.next());
+        }
+
+        final Batch<T> batch = new Batch<>(documents.size() < batchSize || closed);
+        for (int start = 0; start < documents.size(); start += CHUNK_SIZE) {
+            final List<RawBsonDocument> chunk = documents.subList(start, Math.min(start + CHUNK_SIZE, documents.size()));
+            final CompletableFuture<List<T>> decoded = CompletableFuture.supplyAsync(() -> decode(chunk), executor);
+            batch.chunks.add(decoded);
+            decoded.whenComplete((entities, e) -> batch.completed.add(decoded));
+        }
+        return batch;
+    }
+
+    private List<T> decode(final List<RawBsonDocument> documents) {
+        final List<T> entities = new ArrayList<>(documents.size());
+        for (final RawBsonDocument document : documents) {
+            try (BsonBinaryReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+                entities.add(codec.decode(reader, DecoderContext.builder().build()));
+            }
+        }
+        return entities;
+    }
+
+    private static <V> V await(final Future<V> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException
+                  ? (RuntimeException) e.getCause()
+                  : new MappingException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MongoInterruptedException(e.getMessage(), e);
+        }
+    }
+
+    private final class Batch<E> {
+        private final boolean last;
+        private final List<CompletableFuture<List<E>>> chunks = new ArrayList<>();
+        private final BlockingQueue<CompletableFuture<List<E>>> completed = new LinkedBlockingQueue<>();
+
+        private Batch(final boolean last) {
+            this.last = last;
+        }
+
+        private void cancel() {
+            for (final CompletableFuture<List<E>> chunk : chunks) {
+                chunk.cancel(false);
+            }
+        }
+
+        private Iterator<E> iterator() {
+            return new Iterator<>() {
+                private int taken;
+                private Iterator<E> entities = Collections.emptyIterator();
+
+                @Override
+                public boolean hasNext() {
+                    while (!entities.hasNext() && taken < chunks.size()) {
+                        entities = await(ordered ? chunks.get(taken) : take()).iterator();
+                        taken++;
+                    }
+                    return entities.hasNext();
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return entities.next();
+                }
+            };
+        }
+
+        private CompletableFuture<List<E>> take() {
+            try {
+                return completed.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MongoInterruptedException(e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package dev.morphia.query.internal;
+
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonElement;
+import org.bson.BsonReader;
+import org.bson.io.BsonOutput;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the filters of a query straight to BSON.  Filters on the same field are merged in to one document the way
+ * {@link dev.morphia.mapping.codec.DocumentWriter} merges them as long as they are written one after the other: the document of each top
+ * level field is left open until a different field is written.  Anything else that would need to go back over what was already written,
+ * e.g. a field repeated after another field or a repeated field whose values are not both documents, fails with an
+ * {@link UnmergeableException} so the caller can build the query another way.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+public class QueryWriter extends BsonBinaryWriter {
+    private final Set<String> fields = new HashSet<>();
+    private final Set<String> operators = new HashSet<>();
+    private int depth;
+    private String current;
+    private String pending;
+    private boolean merging;
+
+    /**
+     * Creates a writer
+     *
+     * @param output the output to write to
+     */
+    public QueryWriter(final BsonOutput output) {
+        super(output);
+    }
+
+    /**
+     * @param name the field name
+     * @return true if a top level field of this name has been written
+     */
+    public boolean hasField(final String name) {
+        return fields.contains(name);
+    }
+
+    @Override
+    public void writeName(final String name) {
+        if (depth == 1) {
+            if (name.equals(pending)) {
+                merging = true;
+                return;
+            }
+            closePending();
+            if (!fields.add(name)) {
+                throw new UnmergeableException();
+            }
+            current = name;
+            operators.clear();
+        } else if (depth == 2 && !operators.add(name)) {
+            throw new UnmergeableException();
+        }
+        super.writeName(name);
+    }
+
+    @Override
+    public void writeStartDocument() {
+        if (merging) {
+            merging = false;
+        } else {
+            super.writeStartDocument();
+        }
+        depth++;
+    }
+
+    @Override
+    public void writeEndDocument() {
+        depth--;
+        if (depth == 1) {
+            pending = current;
+            return;
+        }
+        if (depth == 0) {
+            closePending();
+        }
+        super.writeEndDocument();
+    }
+
+    @Override
+    public void writeStartArray() {
+        super.writeStartArray();
+        depth++;
+    }
+
+    @Override
+    public void writeEndArray() {
+        depth--;
+        super.writeEndArray();
+    }
+
+    @Override
+    public void pipe(final BsonReader reader) {
+        checkMerging();
+        super.pipe(reader);
+    }
+
+    @Override
+    public void pipe(final BsonReader reader, final List<BsonElement> extraElements) {
+        checkMerging();
+        super.pipe(reader, extraElements);
+    }
+
+    @Override
+    protected void checkPreconditions(final String methodName, final State... validStates) {
+        checkMerging();
+        super.checkPreconditions(methodName, validStates);
+    }
+
+    private void checkMerging() {
+        if (merging) {
+            throw new UnmergeableException();
+        }
+    }
+
+    private void closePending() {
+        if (pending != null) {
+            pending = null;
+            super.writeEndDocument();
+        }
+    }
+
+    /**
+     * Thrown when filters can not be merged while streaming them
+     */
+    public static final class UnmergeableException extends RuntimeException {
+        private UnmergeableException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package dev.morphia.query.internal;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import dev.morphia.Datastore;
+import dev.morphia.annotations.Reference;
+import dev.morphia.mapping.MappedClass;
+import dev.morphia.mapping.MappedField;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.mapping.codec.references.ReferenceBatch;
+import dev.morphia.mapping.codec.references.ReferenceCodec;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonTypeClassMap;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Decodes entities in batches so that the eager references of every entity in a batch are fetched with one query per referenced
+ * collection rather than one query per reference.
+ *
+ * @param <T> the entity type
+ * @morphia.internal
+ * @since 2.0
+ */
+public class ReferenceBatchingCursor<T> implements MongoCursor<T> {
+    private static final BsonTypeClassMap BSON_TYPE_CLASS_MAP = new BsonTypeClassMap();
+
+    private final MongoCursor<RawBsonDocument> wrapped;
+    private final Datastore datastore;
+    private final Codec<T> codec;
+    private final int batchSize;
+    private final MappedClass mappedClass;
+    private final Map<Class<?>, Map<String, MappedField>> referenceFields = new HashMap<>();
+    private final Deque<T> decoded = new ArrayDeque<>();
+
+    /**
+     * Creates a cursor
+     *
+     * @param cursor    the cursor of raw documents
+     * @param datastore the datastore to use
+     * @param type      the entity type
+     * @param batchSize the number of documents to decode together
+     */
+    public ReferenceBatchingCursor(final MongoCursor<RawBsonDocument> cursor, final Datastore datastore, final Class<T> type,
+                                   final int batchSize) {
+        this.wrapped = cursor;
+        this.datastore = datastore;
+        this.codec = datastore.getMapper().getCodecRegistry().get(type);
+        this.batchSize = batchSize;
+        this.mappedClass = datastore.getMapper().getMappedClass(type);
+    }
+
+    /**
+     * Checks if a type has any eagerly loaded references to batch
+     *
+     * @param mappedClass the type to check
+     * @return true if the type or any of its subtypes has an eager reference
+     */
+    public static boolean hasEagerReferences(final MappedClass mappedClass) {
+        if (mappedClass == null) {
+            return false;
+        }
+        if (!findReferenceFields(mappedClass).isEmpty()) {
+            return true;
+        }
+        for (final MappedClass subtype : mappedClass.getSubtypes()) {
+            if (hasEagerReferences(subtype)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the eager references of one type.  Subtypes may declare fields of the same name referencing different types so the fields
+     * are looked up for the type each document was written as rather than merged across the hierarchy.
+     */
+    private static Map<String, MappedField> findReferenceFields(final MappedClass mappedClass) {
+        final Map<String, MappedField> fields = new HashMap<>();
+        if (mappedClass != null) {
+            for (final MappedField field : mappedClass.getFields()) {
+                final Reference reference = field.getAnnotation(Reference.class);
+                if (reference != null && !reference.lazy()) {
+                    fields.put(field.getMappedFieldName(), field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    @Override
+    public void close() {
+        decoded.clear();
+        wrapped.close();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (decoded.isEmpty()) {
+            fill();
+        }
+        return !decoded.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return decoded.poll();
+    }
+
+    @Override
+    public T tryNext() {
+        return hasNext() ? next() : null;
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    private void fill() {
+        final List<RawBsonDocument> documents = new ArrayList<>(batchSize);
+        while (documents.size() < batchSize && wrapped.hasNext()) {
+            documents.add(wrapped.next());
+        }
+        if (documents.isEmpty()) {
+            return;
+        }
+
+        final ReferenceBatch batch = new ReferenceBatch(datastore);
+        for (final RawBsonDocument document : documents) {
+            collect(batch, document);
+        }
+        batch.fetch();
+
+        batch.apply(() -> {
+            final DecoderContext context = DecoderContext.builder().build();
+            for (final RawBsonDocument document : documents) {
+                decoded.add(codec.decode(document.asBsonReader(), context));
+            }
+            return null;
+        });
+    }
+
+    private void collect(final ReferenceBatch batch, final RawBsonDocument document) {
+        if (mappedClass == null) {
+            return;
+        }
+        final Mapper mapper = datastore.getMapper();
+        final DecoderContext context = DecoderContext.builder().build();
+        final Map<String, MappedField> fields = referenceFields.computeIfAbsent(findType(document),
+            type -> findReferenceFields(mapper.getMappedClass(type)));
+        try (BsonReader reader = document.asBsonReader()) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                final MappedField field = fields.get(reader.readName());
+                if (field == null || reader.getCurrentBsonType() == BsonType.NULL) {
+                    reader.skipValue();
+                } else {
+                    Object value = mapper.getCodecRegistry()
+                                         .get(BSON_TYPE_CLASS_MAP.get(reader.getCurrentBsonType()))
+                                         .decode(reader, context);
+                    value = ReferenceCodec.processId(value, mapper, context);
+                    final MappedClass referenced = mapper.getMappedClass(field.getNormalizedType());
+                    batch.collect(referenced != null ? referenced.getCollectionName() : null, value);
+                }
+            }
+        }
+    }
+
+    private Class<?> findType(final RawBsonDocument document) {
+        final BsonValue discriminator = document.get(mappedClass.getEntityModel().getDiscriminatorKey());
+        if (discriminator != null && discriminator.isString()) {
+            try {
+                return datastore.getMapper().getDiscriminatorLookup().lookup(discriminator.asString().getValue());
+            } catch (CodecConfigurationException e) {
+                return mappedClass.getType();
+            }
+        }
+        return mappedClass.getType();
+    }
+}
@@ -0,0 +1,90 @@
+package dev.morphia.query.internal;
+
+import dev.morphia.internal.PathTarget;
+import dev.morphia.mapping.MappedField;
+import dev.morphia.mapping.codec.pojo.FieldModel;
+import dev.morphia.mapping.codec.pojo.PropertyHandler;
+import dev.morphia.query.experimental.filters.Placeholder;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.Codec;
+
+import java.util.List;
+
+/**
+ * Writes filters in to a query template recording a numbered marker for each {@link Placeholder} in place of its value.
+ *
+ * @morphia.internal
+ * @since 2.0
+ */
+public class TemplateWriter extends BsonDocumentWriter {
+    /**
+     * The key of the document standing in for a placeholder's value
+     */
+    public static final String MARKER = "$morphia.placeholder";
+
+    private final List<Marker> markers;
+
+    /**
+     * Creates a writer
+     *
+     * @param document the document to write to
+     * @param markers  the list to add a marker to for each placeholder written
+     */
+    public TemplateWriter(final BsonDocument document, final List<Marker> markers) {
+        super(document);
+        this.markers = markers;
+    }
+
+    /**
+     * Writes the marker for a placeholder.  The same placeholder may be used against several fields so the handler for the value is
+     * resolved for each marker rather than kept on the placeholder.
+     *
+     * @param placeholder the placeholder
+     * @param target      the resolved path of the field the placeholder is compared against or null if it is not known
+     */
+    public void writePlaceholder(final Placeholder placeholder, final PathTarget target) {
+        writeStartDocument();
+        writeInt32(MARKER, markers.size());
+        writeEndDocument();
+        markers.add(new Marker(placeholder.getName(), findHandler(target)));
+    }
+
+    private static PropertyHandler findHandler(final PathTarget target) {
+        final MappedField mappedField = target != null ? target.getTarget() : null;
+        final FieldModel<?> model = mappedField != null
+                                    ? mappedField.getDeclaringClass()
+                                                 .getEntityModel()
+                                                 .getFieldModelByName(mappedField.getJavaFieldName())
+                                    : null;
+        final Codec<?> codec = model != null ? model.getCachedCodec() : null;
+        return codec instanceof PropertyHandler ? (PropertyHandler) codec : null;
+    }
+
+    /**
+     * A placeholder written to the template along with the handler for the field it was compared against
+     */
+    public static final class Marker {
+        private final String name;
+        private final PropertyHandler handler;
+
+        private Marker(final String name, final PropertyHandler handler) {
+            this.name = name;
+            this.handler = handler;
+        }
+
+        /**
+         * @return the name of the placeholder
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the handler to encode values with or null if values are encoded with the codec for their type
+         */
+        public PropertyHandler getHandler() {
+            return handler;
+        }
+    }
+}
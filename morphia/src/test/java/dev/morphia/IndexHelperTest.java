@@ -138,6 +138,32 @@ public class IndexHelperTest extends TestBase {
 
     }
 
+    @Test
+    public void createMissingIndexes() {
+        IndexReport report = getDs().ensureIndexes(new EnsureIndexesOptions().parallelism(2));
+        assertEquals(3, report.getCreated("indexes").size());
+        assertTrue(report.getSkipped("indexes").isEmpty());
+        assertEquals(4, getIndexInfo(IndexedClass.class).size());
+
+        getDatabase().getCollection("indexes").dropIndex("latitude_1");
+        report = getDs().ensureIndexes(new EnsureIndexesOptions());
+        assertEquals(List.of(parse("{ 'latitude' : 1 }")), report.getCreated("indexes"));
+        assertEquals(2, report.getSkipped("indexes").size());
+        assertEquals(4, getIndexInfo(IndexedClass.class).size());
+
+        getDatabase().getCollection("indexes").dropIndex("latitude_1");
+        com.mongodb.client.model.IndexOptions english = new com.mongodb.client.model.IndexOptions()
+                                                            .name("latitude_en")
+                                                            .collation(com.mongodb.client.model.Collation.builder()
+                                                                                                         .locale("en")
+                                                                                                         .build());
+        getDatabase().getCollection("indexes").createIndex(parse("{ 'latitude' : 1 }"), english);
+        report = getDs().ensureIndexes(new EnsureIndexesOptions());
+        assertEquals("An index with the same keys but a different collation is not a match",
+            List.of(parse("{ 'latitude' : 1 }")), report.getCreated("indexes"));
+        assertEquals(5, getIndexInfo(IndexedClass.class).size());
+    }
+
     @Test
     public void findField() {
         MappedClass mappedClass = getMapper().getMappedClass(IndexedClass.class);
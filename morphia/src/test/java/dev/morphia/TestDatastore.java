@@ -25,14 +25,17 @@ import dev.morphia.annotations.PreLoad;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.Reference;
 import dev.morphia.annotations.Transient;
+import dev.morphia.entities.version.Versioned;
 import dev.morphia.generics.model.Child;
 import dev.morphia.generics.model.ChildEntity;
+import dev.morphia.mapping.MapperOptions;
 import dev.morphia.query.FindAndDeleteOptions;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Modify;
 import dev.morphia.query.Query;
 import dev.morphia.query.Update;
 import dev.morphia.query.UpdateException;
+import dev.morphia.query.internal.MorphiaCursor;
 import dev.morphia.testmodel.Address;
 import dev.morphia.testmodel.Hotel;
 import dev.morphia.testmodel.Rectangle;
@@ -43,8 +46,12 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.mongodb.client.model.ReturnDocument.AFTER;
 import static com.mongodb.client.model.ReturnDocument.BEFORE;
@@ -188,6 +195,74 @@ public class TestDatastore extends TestBase {
         assertTrue(LifecycleListener.prePersistWithEntity);
     }
 
+    @Test
+    public void testLifecycleListenerFactory() {
+        final List<Class<?>> created = new ArrayList<>();
+        final Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .listenerFactory(type -> {
+                             created.add(type);
+                             return new LifecycleListener();
+                         })
+                         .build());
+        datastore.getMapper().map(List.of(LifecycleTestObj.class));
+        datastore.save(new LifecycleTestObj());
+        datastore.save(new LifecycleTestObj());
+
+        assertEquals(List.of(LifecycleListener.class), created);
+        assertTrue(LifecycleListener.prePersist);
+        assertTrue(LifecycleListener.prePersistWithEntity);
+    }
+
+    @Test
+    public void testTrackedChanges() {
+        final Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .trackChanges(true)
+                         .build());
+        datastore.getMapper().map(List.of(Rectangle.class, Versioned.class));
+        final Rectangle rectangle = new Rectangle(1, 2);
+        datastore.save(rectangle);
+        assertNull(datastore.getMapper().getChangeTracker().getSnapshot(rectangle));
+
+        final Rectangle loaded = datastore.find(Rectangle.class).filter("_id", rectangle.getId()).first();
+        assertNotNull(datastore.getMapper().getChangeTracker().getSnapshot(loaded));
+        final String collection = datastore.getMapper().getMappedClass(Rectangle.class).getCollectionName();
+        getDatabase().getCollection(collection).updateOne(new Document("_id", rectangle.getId()),
+            new Document("$set", new Document("h", 10.0)));
+
+        loaded.setWidth(5);
+        datastore.save(loaded);
+        Document document = getDatabase().getCollection(collection).find(new Document("_id", rectangle.getId())).first();
+        assertEquals(10.0, document.getDouble("h"), 0.0);
+        assertEquals(5.0, document.getDouble("w"), 0.0);
+
+        datastore.delete(loaded);
+        loaded.setWidth(6);
+        datastore.save(loaded);
+        document = getDatabase().getCollection(collection).find(new Document("_id", rectangle.getId())).first();
+        assertEquals(1.0, document.getDouble("h"), 0.0);
+        assertEquals(6.0, document.getDouble("w"), 0.0);
+
+        final Versioned versioned = new Versioned();
+        versioned.setName("first");
+        datastore.save(versioned);
+        final Versioned first = datastore.find(Versioned.class).filter("_id", versioned.getId()).first();
+        final Versioned second = datastore.find(Versioned.class).filter("_id", versioned.getId()).first();
+        first.setName("second");
+        datastore.save(first);
+        assertEquals(Long.valueOf(2), first.getVersion());
+        assertEquals("second", datastore.find(Versioned.class).filter("_id", versioned.getId()).first().getName());
+
+        second.setName("stale");
+        try {
+            datastore.save(second);
+            Assert.fail("Should have detected the concurrent modification");
+        } catch (ConcurrentModificationException e) {
+            assertEquals(Long.valueOf(1), second.getVersion());
+        }
+    }
+
     @Test
     public void testMorphiaDS() {
         Morphia.createDatastore(getMongoClient(), "test");
@@ -539,6 +614,82 @@ public class TestDatastore extends TestBase {
 
     }
 
+    @Test
+    public void testGetByKeysInChunks() {
+        final List<Key<FacebookUser>> keys = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            keys.add(getMapper().getKey(getDs().save(new FacebookUser(i, "User " + i))));
+        }
+        Collections.reverse(keys);
+        getDs().find(FacebookUser.class)
+               .filter("id", 5)
+               .delete();
+
+        final List<FacebookUser> users = getDs().getByKeys(keys, new GetByKeysOptions()
+                                                                     .chunkSize(3)
+                                                                     .parallelism(2));
+        assertEquals(10, users.size());
+        assertEquals(10, users.get(0).getId());
+        assertEquals(6, users.get(4).getId());
+        assertEquals(4, users.get(5).getId());
+        assertEquals(0, users.get(9).getId());
+
+        try (MorphiaCursor<FacebookUser> cursor = getDs().streamByKeys(keys, new GetByKeysOptions().chunkSize(4))) {
+            assertEquals(10, cursor.next().getId());
+            assertEquals(9, cursor.next().getId());
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final List<FacebookUser> repeated = getDs().getByKeys(List.of(keys.get(0), keys.get(1), keys.get(0)),
+                new GetByKeysOptions().executor(executor));
+            assertEquals(2, repeated.size());
+            assertEquals(10, repeated.get(0).getId());
+            assertEquals(9, repeated.get(1).getId());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRefreshMany() {
+        final List<FacebookUser> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(getDs().save(new FacebookUser(i, "User " + i)));
+        }
+        getDs().find(FacebookUser.class)
+               .update()
+               .inc("loginCount", 3)
+               .execute(new UpdateOptions().multi(true));
+        getDs().find(FacebookUser.class)
+               .filter("id", 4)
+               .delete();
+        final FacebookUser duplicate = new FacebookUser(2, "Duplicate");
+        users.add(duplicate);
+
+        getDs().refresh(users);
+        for (final FacebookUser user : users.subList(0, 4)) {
+            assertEquals(3, user.loginCount);
+        }
+        assertEquals(0, users.get(4).loginCount);
+        assertEquals(3, duplicate.loginCount);
+        assertEquals("User 2", duplicate.username);
+    }
+
+    @Test
+    public void testRefreshLifecycle() {
+        getMapper().map(Counted.class);
+        final Counted counted = getDs().save(new Counted());
+        getDs().find(Counted.class)
+               .update()
+               .inc("value", 2)
+               .execute();
+
+        getDs().refresh(counted);
+        assertEquals(2, counted.value);
+        assertEquals(1, counted.loads);
+    }
+
     private void testFirstDatastore(final Datastore ds1) {
         final FacebookUser user = ds1.find(FacebookUser.class).filter("id", 1)
                                      .execute(new FindOptions().limit(1))
@@ -789,6 +940,20 @@ public class TestDatastore extends TestBase {
         }
     }
 
+    @Entity("counted")
+    private static class Counted {
+        @Id
+        private ObjectId id;
+        private int value;
+        @Transient
+        private int loads;
+
+        @PostLoad
+        void postLoad() {
+            loads++;
+        }
+    }
+
     @Entity(concern = "ACKNOWLEDGED")
     static class Simple {
         @Id
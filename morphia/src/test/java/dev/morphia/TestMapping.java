@@ -15,6 +15,9 @@
 package dev.morphia;
 
 
+import com.mongodb.ReadPreference;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.MongoCollection;
 import dev.morphia.TestInheritanceMappings.MapLike;
 import dev.morphia.annotations.AlsoLoad;
 import dev.morphia.annotations.Embedded;
@@ -30,6 +33,9 @@ import dev.morphia.mapping.Mapper;
 import dev.morphia.mapping.MapperOptions;
 import dev.morphia.mapping.MappingException;
 import dev.morphia.mapping.NamingStrategy;
+import dev.morphia.mapping.codec.MorphiaInstanceCreator;
+import dev.morphia.mapping.codec.pojo.EntityModel;
+import dev.morphia.mapping.codec.pojo.FieldModel;
 import dev.morphia.mapping.experimental.MorphiaReference;
 import dev.morphia.mapping.lazy.proxy.ReferenceException;
 import dev.morphia.mapping.validation.ConstraintViolationException;
@@ -112,6 +118,48 @@ public class TestMapping extends TestBase {
         assertEquals(instance, first);
     }
 
+    @Test
+    public void constructorBindingPlan() {
+        final EntityModel<ConstructorBased> model = (EntityModel<ConstructorBased>) getMapper().map(ConstructorBased.class).get(0)
+                                                                                             .getEntityModel();
+        final ObjectId id = new ObjectId();
+
+        final MorphiaInstanceCreator<ConstructorBased> creator = model.getInstanceCreator();
+        creator.set(id, (FieldModel<ObjectId>) model.getFieldModelByName("id"));
+        creator.set("bound", (FieldModel<String>) model.getFieldModelByName("name"));
+        final ConstructorBased instance = creator.getInstance();
+        assertEquals(new ConstructorBased(id, "bound", null), instance);
+
+        final MorphiaInstanceCreator<ConstructorBased> second = model.getInstanceCreator();
+        second.set("second", (FieldModel<String>) model.getFieldModelByName("name"));
+        assertEquals(new ConstructorBased(null, "second", null), second.getInstance());
+        assertEquals(new ConstructorBased(id, "bound", null), instance);
+    }
+
+    @Test
+    public void driftedFieldTypes() {
+        final ObjectId other = new ObjectId();
+        final Document document = new Document("_id", new ObjectId())
+                                      .append("count", 3)
+                                      .append("other", other.toHexString())
+                                      .append("label", 12)
+                                      .append("number", "42");
+
+        final Drifted drifted = getMapper().fromDocument(Drifted.class, document);
+        assertEquals(3L, drifted.count);
+        assertEquals(other, drifted.other);
+        assertEquals("12", drifted.label);
+        assertEquals(42, drifted.number);
+
+        final EntityModel<?> model = getMapper().getMappedClass(Drifted.class).getEntityModel();
+        assertEquals(1, model.getFieldModelByName("other").getCoercedReads());
+        assertEquals(1, model.getFieldModelByName("number").getCoercedReads());
+        assertEquals(0, model.getFieldModelByName("count").getCoercedReads());
+        for (final FieldModel<?> fieldModel : model.getFieldModels()) {
+            assertEquals(fieldModel.getName(), 0, fieldModel.getFallbackReads());
+        }
+    }
+
     @Test
     public void fieldNaming() {
         MapperOptions options = MapperOptions.builder()
@@ -213,6 +261,35 @@ public class TestMapping extends TestBase {
         getMapper().map(UsesBaseEntity.class);
     }
 
+    @Test
+    public void testMappedClassLookup() {
+        final Mapper mapper = getMapper();
+        final MappedClass mappedClass = mapper.getMappedClass(Hotel.class);
+        assertNotNull(mappedClass);
+        Assert.assertSame(mappedClass, mapper.getMappedClass(Hotel.class));
+
+        assertNull(mapper.getMappedClass(String.class));
+        assertNull(mapper.getMappedClass(String.class));
+        assertFalse(mapper.isMappable(String.class));
+        assertTrue(mapper.isMappable(Hotel.class));
+    }
+
+    @Test
+    public void testCollectionCaching() {
+        final Mapper mapper = getMapper();
+        final MongoCollection<Hotel> collection = mapper.getCollection(Hotel.class);
+        Assert.assertSame(collection, mapper.getCollection(Hotel.class));
+        Assert.assertSame(collection, mapper.getCollection(Hotel.class, null, null, null));
+
+        final MongoCollection<Hotel> majority = mapper.getCollection(Hotel.class, null, null, WriteConcern.MAJORITY);
+        assertEquals(WriteConcern.MAJORITY, majority.getWriteConcern());
+        Assert.assertSame(majority, mapper.getCollection(Hotel.class, null, null, WriteConcern.MAJORITY));
+
+        final MongoCollection<Hotel> secondary = mapper.getCollection(Hotel.class, ReadPreference.secondary(), null, null);
+        assertEquals(ReadPreference.secondary(), secondary.getReadPreference());
+        assertEquals(collection.getNamespace(), secondary.getNamespace());
+    }
+
     @Test
     public void testBasicMapping() {
         Mapper mapper = getDs().getMapper();
@@ -1052,4 +1129,14 @@ public class TestMapping extends TestBase {
         @Id
         private ObjectId id = new ObjectId();
     }
+
+    @Entity
+    private static class Drifted {
+        @Id
+        private ObjectId id;
+        private long count;
+        private ObjectId other;
+        private String label;
+        private int number;
+    }
 }
@@ -11,6 +11,8 @@ import org.junit.Test;
 import java.util.Date;
 import java.util.List;
 
+import static dev.morphia.query.experimental.filters.Filters.eq;
+
 public class TestTransactions extends TestBase {
     @Before
     public void before() {
@@ -205,6 +207,32 @@ public class TestTransactions extends TestBase {
         Assert.assertEquals(2, getDs().find(Rectangle.class).count());
     }
 
+    @Test
+    public void identityMap() {
+        Rectangle rectangle = new Rectangle(1, 1);
+        getDs().save(rectangle);
+
+        try (MorphiaSession session = getDs().startSession().identityMap(true)) {
+            session.startTransaction();
+
+            Rectangle loaded = session.find(Rectangle.class).first();
+            Assert.assertSame(loaded, session.find(Rectangle.class).first());
+            Assert.assertSame(loaded, session.find(Rectangle.class).filter(eq("_id", rectangle.getId())).first());
+            Assert.assertNotSame(loaded, getDs().find(Rectangle.class).first());
+
+            session.find(Rectangle.class)
+                   .update()
+                   .inc("width", 13)
+                   .execute();
+
+            Rectangle updated = session.find(Rectangle.class).first();
+            Assert.assertNotSame(loaded, updated);
+            Assert.assertEquals(rectangle.getWidth() + 13, updated.getWidth(), 0.5);
+
+            session.commitTransaction();
+        }
+    }
+
     @Test
     public void update() {
         Rectangle rectangle = new Rectangle(1, 1);
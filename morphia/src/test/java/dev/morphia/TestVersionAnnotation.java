@@ -55,6 +55,47 @@ public class TestVersionAnnotation extends TestBase {
         Assert.assertEquals(3, entity.getVersion().longValue());
     }
 
+    @Test
+    public void testBulkSave() {
+        final List<Versioned> list = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final Versioned versioned = new Versioned();
+            versioned.setName("Value " + i);
+            getDs().save(versioned);
+            list.add(versioned);
+        }
+
+        for (final Versioned versioned : list) {
+            versioned.setName(versioned.getName() + " updated");
+        }
+        getDs().save(list, new InsertManyOptions().batchSize(3));
+        for (final Versioned versioned : list) {
+            assertEquals(Long.valueOf(2), versioned.getVersion());
+            assertEquals(versioned.getName(), getDs().find(Versioned.class).filter("_id", versioned.getId()).first().getName());
+        }
+
+        final Versioned first = getDs().find(Versioned.class).filter("_id", list.get(0).getId()).first();
+        final Versioned second = getDs().find(Versioned.class).filter("_id", list.get(1).getId()).first();
+        getDs().save(asList(first, second));
+
+        for (final Versioned versioned : list) {
+            versioned.setName("stale");
+        }
+        try {
+            getDs().save(list, new InsertManyOptions().ordered(false));
+            Assert.fail("Should have detected the concurrent modifications");
+        } catch (ConcurrentModificationException e) {
+            assertEquals(2, e.getSuppressed().length);
+        }
+        assertEquals(Long.valueOf(2), list.get(0).getVersion());
+        assertEquals(Long.valueOf(2), list.get(1).getVersion());
+        for (final Versioned versioned : list.subList(2, list.size())) {
+            assertEquals(Long.valueOf(3), versioned.getVersion());
+            assertEquals("stale", getDs().find(Versioned.class).filter("_id", versioned.getId()).first().getName());
+        }
+        assertEquals("Value 0 updated", getDs().find(Versioned.class).filter("_id", first.getId()).first().getName());
+    }
+
     @Test
     public void testCanMapAPackageContainingAVersionedAbstractBaseClass() {
         getMapper().mapPackage("dev.morphia.entities.version");
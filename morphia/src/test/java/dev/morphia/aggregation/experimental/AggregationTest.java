@@ -501,6 +501,39 @@ public class AggregationTest extends TestBase {
         assertEquals(Integer.valueOf(4), execute.getInteger("count"));
     }
 
+    @Test
+    public void testOptimize() {
+        getDs().save(asList(new Book("The Banquet", "Dante", 2),
+            new Book("Divine Comedy", "Dante", 1),
+            new Book("Eclogues", "Dante", 2),
+            new Book("The Odyssey", "Homer", 10),
+            new Book("Iliad", "Homer", 10)));
+
+        Aggregation<Book> pipeline = getDs().aggregate(Book.class)
+                                            .lookup(from("authors")
+                                                        .localField("author")
+                                                        .foreignField("name")
+                                                        .as("authorDocs"))
+                                            .match(getDs().find(Book.class).filter("author", "Homer"))
+                                            .match(getDs().find(Book.class).filter("copies", 10))
+                                            .sort(on().ascending("title"))
+                                            .project(Projection.of().include("title"))
+                                            .limit(5)
+                                            .limit(1)
+                                            .optimize();
+
+        List<String> stages = pipeline.getDocuments().stream()
+                                      .map(d -> d.keySet().iterator().next())
+                                      .collect(toList());
+        assertEquals(asList("$match", "$lookup", "$sort", "$limit", "$project"), stages);
+        assertEquals(7, pipeline.getDocuments(false).size());
+        assertEquals(1L, ((Number) pipeline.getDocuments().get(3).get("$limit")).longValue());
+
+        List<Document> results = pipeline.execute(Document.class).toList();
+        assertEquals(1, results.size());
+        assertEquals("Iliad", results.get(0).getString("title"));
+    }
+
     @Test
     public void testOut() {
         getDs().save(asList(new Book("The Banquet", "Dante", 2),
@@ -0,0 +1,114 @@
+package dev.morphia.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Reference;
+import dev.morphia.mapping.MapperOptions;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding lazy and eager references.  Requires a running database as defined by the {@code MONGO_URI} system property.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReferenceDecodeBenchmark {
+    private MongoClient client;
+    private Datastore datastore;
+    private Document lazy;
+    private Document eager;
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                       .include(ReferenceDecodeBenchmark.class.getSimpleName())
+                       .build())
+            .run();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        client = MongoClients.create(System.getProperty("MONGO_URI", "mongodb://localhost:27017"));
+        datastore = Morphia.createDatastore(client, "morphia_benchmarks", MapperOptions.builder()
+                                                                                        .prebuildProxies(true)
+                                                                                        .build());
+        datastore.getMapper().map(LazyParent.class, EagerParent.class, Child.class);
+        datastore.getDatabase().drop();
+
+        Child child = new Child();
+        child.name = "child";
+        datastore.save(child);
+
+        lazy = new Document("_id", new ObjectId())
+                   .append("child", child.id);
+        eager = new Document("_id", new ObjectId())
+                    .append("child", child.id);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        datastore.getDatabase().drop();
+        client.close();
+    }
+
+    @Benchmark
+    public LazyParent lazy() {
+        return datastore.getMapper().fromDocument(LazyParent.class, lazy);
+    }
+
+    @Benchmark
+    public EagerParent eager() {
+        return datastore.getMapper().fromDocument(EagerParent.class, eager);
+    }
+
+    @Entity("lazyParents")
+    public static class LazyParent {
+        @Id
+        private ObjectId id;
+        @Reference(lazy = true)
+        private Child child;
+    }
+
+    @Entity("eagerParents")
+    public static class EagerParent {
+        @Id
+        private ObjectId id;
+        @Reference
+        private Child child;
+    }
+
+    @Entity("children")
+    public static class Child {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -23,6 +23,22 @@ public class TestEntityInterceptorMoment extends TestBase {
         getDs().save(new E());
     }
 
+    @Test
+    public void testInterceptorWithoutDocument() {
+        getMapper().map(E.class);
+        DocumentlessInterceptor interceptor = new DocumentlessInterceptor();
+        getMapper().addInterceptor(interceptor);
+
+        E entity = new E();
+        getDs().save(entity);
+        Assert.assertTrue(interceptor.persisted);
+
+        E loaded = getDs().find(E.class).filter("_id", entity.id).first();
+        Assert.assertNotNull(loaded);
+        Assert.assertTrue(loaded.called);
+        Assert.assertTrue(interceptor.loaded);
+    }
+
     @Entity
     static class E {
         @Id
@@ -36,6 +52,28 @@ public class TestEntityInterceptorMoment extends TestBase {
         }
     }
 
+    public static class DocumentlessInterceptor implements EntityInterceptor {
+        private boolean persisted;
+        private boolean loaded;
+
+        @Override
+        public boolean usesDocument() {
+            return false;
+        }
+
+        @Override
+        public void prePersist(final Object ent, final Document document, final Mapper mapper) {
+            Assert.assertNull(document);
+            persisted = true;
+        }
+
+        @Override
+        public void postLoad(final Object ent, final Document document, final Mapper mapper) {
+            Assert.assertNull(document);
+            loaded = true;
+        }
+    }
+
     public static class Interceptor implements EntityInterceptor {
         @Override
         public void prePersist(final Object ent, final Document document, final Mapper mapper) {
@@ -55,6 +55,28 @@ public class PathTargetTest extends TestBase {
         Assert.assertEquals(mappedClass.getMappedField("n"), pathTarget.getTarget());
     }
 
+    @Test
+    public void cachedResolution() {
+        getMapper().map(ParentType.class, EmbeddedType.class);
+        Mapper mapper = getMapper();
+        MappedClass mappedClass = mapper.getMappedClass(ParentType.class);
+        mapper.getPathTargetCache().clear();
+
+        Assert.assertEquals("n", new PathTarget(mapper, mappedClass, "name").translatedPath());
+        Assert.assertEquals(1, mapper.getPathTargetCache().size());
+
+        PathTarget pathTarget = new PathTarget(mapper, mappedClass, "name");
+        Assert.assertEquals("n", pathTarget.translatedPath());
+        Assert.assertEquals(mappedClass.getMappedFieldByJavaField("name"), pathTarget.getTarget());
+        Assert.assertEquals(1, mapper.getPathTargetCache().size());
+
+        Assert.assertEquals("n", new PathTarget(mapper, mappedClass, "name", false).translatedPath());
+        Assert.assertEquals(2, mapper.getPathTargetCache().size());
+
+        Assert.assertEquals("unknown", new PathTarget(mapper, mappedClass, "unknown", false).translatedPath());
+        Assert.assertEquals(2, mapper.getPathTargetCache().size());
+    }
+
     @Test
     public void dottedPath() {
         getMapper().map(ParentType.class, EmbeddedType.class);
@@ -0,0 +1,55 @@
+package dev.morphia.mapping;
+
+import dev.morphia.Morphia;
+import dev.morphia.testmodel.Rectangle;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class DiscriminatorLookupTest {
+    private static final String PACKAGE = Rectangle.class.getPackageName();
+    private static final String DISCRIMINATOR = Rectangle.class.getSimpleName();
+
+    @Test
+    public void missesAreRemembered() {
+        final Set<String> packages = new HashSet<>();
+        final DiscriminatorLookup lookup = new DiscriminatorLookup(Map.of(), packages);
+        assertMissing(lookup, DISCRIMINATOR);
+
+        packages.add(PACKAGE);
+        assertMissing(lookup, DISCRIMINATOR);
+
+        final Mapper mapper = Morphia.createDatastore("morphia_test", MapperOptions.builder()
+                                                                                   .discriminator(DiscriminatorFunction.simpleName())
+                                                                                   .build())
+                                     .getMapper();
+        mapper.map(Rectangle.class);
+        lookup.addModel(mapper.getMappedClass(Rectangle.class).getEntityModel());
+        Assert.assertEquals(Rectangle.class, lookup.lookup(DISCRIMINATOR));
+    }
+
+    @Test
+    public void missesAreCapped() {
+        final Set<String> packages = new HashSet<>();
+        final DiscriminatorLookup lookup = new DiscriminatorLookup(Map.of(), packages);
+        for (int i = 0; i < DiscriminatorLookup.MAX_MISSES; i++) {
+            assertMissing(lookup, "Missing" + i);
+        }
+        assertMissing(lookup, DISCRIMINATOR);
+
+        packages.add(PACKAGE);
+        Assert.assertEquals(Rectangle.class, lookup.lookup(DISCRIMINATOR));
+    }
+
+    private static void assertMissing(final DiscriminatorLookup lookup, final String discriminator) {
+        try {
+            lookup.lookup(discriminator);
+            Assert.fail("Should not have found a class for " + discriminator);
+        } catch (CodecConfigurationException ignored) {
+        }
+    }
+}
@@ -8,6 +8,7 @@ import dev.morphia.annotations.Embedded;
 import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.mapping.MapperOptions.Builder;
+import dev.morphia.mapping.codec.MethodHandleAccessor;
 import dev.morphia.query.FindOptions;
 import dev.morphia.query.Query;
 import org.bson.Document;
@@ -161,6 +162,32 @@ public class MapperOptionsTest extends TestBase {
         Assert.assertEquals(HasMap.class.getSimpleName().toLowerCase(), mappedClass.getEntityModel().getDiscriminator());
     }
 
+    @Test
+    public void discriminatorAliases() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .discriminator(DiscriminatorFunction.aliases(Map.of(HasMap.class, "m"), DiscriminatorFunction.simpleName()))
+                         .build());
+        datastore.getMapper().map(HasMap.class, HasList.class);
+
+        Assert.assertEquals("m", datastore.getMapper().getMappedClass(HasMap.class).getEntityModel().getDiscriminator());
+        Assert.assertEquals(HasList.class.getSimpleName(),
+            datastore.getMapper().getMappedClass(HasList.class).getEntityModel().getDiscriminator());
+
+        final HasMap hasMap = new HasMap();
+        hasMap.properties = Map.of("key", "value");
+        datastore.save(hasMap);
+
+        final String collection = datastore.getMapper().getMappedClass(HasMap.class).getCollectionName();
+        Assert.assertEquals("m", getDatabase().getCollection(collection).find().first().get("_t"));
+        Assert.assertEquals(hasMap.properties, datastore.find(HasMap.class).first().properties);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateDiscriminatorAliases() {
+        DiscriminatorFunction.aliases(Map.of(HasMap.class, "h", HasList.class, "h"), DiscriminatorFunction.simpleName());
+    }
+
     @Test
     public void customDiscriminators() {
         List<MappedClass> classes = getDs().getMapper().map(EntityDiscriminator.class, EntityDiscriminator2.class);
@@ -182,6 +209,67 @@ public class MapperOptionsTest extends TestBase {
         Assert.assertEquals(getDs().getLoggedQuery(options), 1, list.size());
     }
 
+    @Test
+    public void methodHandleAccessors() {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .accessorStrategy(AccessorStrategy.methodHandles())
+                         .build());
+
+        HasPrimitives primitives = new HasPrimitives();
+        primitives.intVal = 42;
+        primitives.longVal = 1L << 40;
+        primitives.doubleVal = 2.5;
+        primitives.booleanVal = true;
+        primitives.floatVal = 1.5F;
+        primitives.ints = new int[]{1, 2, 3};
+        primitives.name = "primitives";
+        datastore.save(primitives);
+
+        Document document = getDocumentCollection(HasPrimitives.class).find().first();
+        Assert.assertEquals(42, document.get("intVal"));
+        Assert.assertEquals(1L << 40, document.get("longVal"));
+        Assert.assertEquals(2.5, document.get("doubleVal"));
+        Assert.assertEquals(true, document.get("booleanVal"));
+        Assert.assertEquals(List.of(1, 2, 3), document.get("ints"));
+
+        HasPrimitives loaded = datastore.find(HasPrimitives.class)
+                                        .execute(new FindOptions().limit(1))
+                                        .tryNext();
+        Assert.assertEquals(primitives.intVal, loaded.intVal);
+        Assert.assertEquals(primitives.longVal, loaded.longVal);
+        Assert.assertEquals(primitives.doubleVal, loaded.doubleVal, 0.0);
+        Assert.assertEquals(primitives.booleanVal, loaded.booleanVal);
+        Assert.assertEquals(primitives.floatVal, loaded.floatVal, 0.0);
+        Assert.assertArrayEquals(primitives.ints, loaded.ints);
+        Assert.assertEquals(primitives.name, loaded.name);
+    }
+
+    @Test
+    public void methodHandleAccessorsWiden() throws NoSuchFieldException {
+        Datastore datastore = Morphia.createDatastore(getMongoClient(), getDatabase().getName(),
+            MapperOptions.builder()
+                         .accessorStrategy(AccessorStrategy.methodHandles())
+                         .build());
+        datastore.getMapper().map(HasPrimitives.class);
+
+        getDocumentCollection(HasPrimitives.class).insertOne(new Document("_id", new ObjectId())
+                                                                 .append("intVal", 3)
+                                                                 .append("longVal", 7)
+                                                                 .append("doubleVal", 2));
+        HasPrimitives loaded = datastore.find(HasPrimitives.class)
+                                        .execute(new FindOptions().limit(1))
+                                        .tryNext();
+        Assert.assertEquals(3, loaded.intVal);
+        Assert.assertEquals(7L, loaded.longVal);
+        Assert.assertEquals(2.0, loaded.doubleVal, 0.0);
+
+        new MethodHandleAccessor(HasPrimitives.class.getDeclaredField("longVal")).set(loaded, 9);
+        new MethodHandleAccessor(HasPrimitives.class.getDeclaredField("doubleVal")).set(loaded, 5L);
+        Assert.assertEquals(9L, loaded.longVal);
+        Assert.assertEquals(5.0, loaded.doubleVal, 0.0);
+    }
+
     private void shouldNotFindField(final Datastore datastore, final HasList hl) {
         datastore.save(hl);
         Document document = getDocumentCollection(HasList.class).find().first();
@@ -327,6 +415,19 @@ public class MapperOptionsTest extends TestBase {
         }
     }
 
+    @Entity
+    private static class HasPrimitives {
+        @Id
+        private ObjectId id;
+        private int intVal;
+        private long longVal;
+        private double doubleVal;
+        private boolean booleanVal;
+        private float floatVal;
+        private int[] ints;
+        private String name;
+    }
+
     @Entity
     private static class DummyEntity {
         @Id
@@ -1,7 +1,13 @@
 package dev.morphia.mapping;
 
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
 import dev.morphia.Datastore;
 import dev.morphia.Key;
 import dev.morphia.Morphia;
@@ -28,6 +34,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static dev.morphia.mapping.lazy.LazyFeatureDependencies.assertProxyClassesPresent;
 import static java.util.Arrays.asList;
@@ -126,6 +133,50 @@ public class ReferenceTest extends ProxyTestBase {
         assertEquals(expectedRefMap.keySet(), retrieved.getLazyMapRef().keySet());
     }
 
+    @Test
+    public void testBatchedReferences() {
+        final List<Ref> refs = asList(new Ref("foo"), new Ref("bar"), new Ref("baz"));
+        getDs().save(refs);
+        final List<Container> containers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            containers.add(new Container(refs));
+        }
+        getDs().save(containers);
+
+        final Map<String, Integer> finds = new ConcurrentHashMap<>();
+        final CommandListener listener = new CommandListener() {
+            @Override
+            public void commandStarted(final CommandStartedEvent event) {
+                if (event.getCommandName().equals("find")) {
+                    finds.merge(event.getCommand().getString("find").getValue(), 1, Integer::sum);
+                }
+            }
+        };
+        final MongoClientSettings settings = MongoClientSettings.builder()
+                                                                .applyConnectionString(new ConnectionString(getMongoURI()))
+                                                                .addCommandListener(listener)
+                                                                .build();
+        try (MongoClient client = MongoClients.create(settings)) {
+            final Datastore datastore = Morphia.createDatastore(client, getDatabase().getName());
+            datastore.getMapper().map(Container.class, Ref.class);
+            final List<Container> loaded = datastore.find(Container.class)
+                                                    .execute(new FindOptions().referenceBatchSize(2))
+                                                    .toList();
+            assertEquals(containers.size(), loaded.size());
+
+            // 5 containers in batches of 2 need one $in query against the referenced collection per batch rather than one per container
+            assertEquals(Integer.valueOf(1), finds.get(datastore.getMapper().getMappedClass(Container.class).getCollectionName()));
+            assertEquals(Integer.valueOf(3), finds.get(datastore.getMapper().getMappedClass(Ref.class).getCollectionName()));
+
+            for (final Container container : loaded) {
+                assertEquals(refs.get(0), container.getSingleRef());
+                assertEquals(refs, container.getCollectionRef());
+                assertEquals(refs.get(2), container.getMapRef().get(2));
+                assertEquals(refs.get(0), container.getLazySingleRef());
+            }
+        }
+    }
+
     @Test
     public void testNullReferences() {
         Container container = new Container();
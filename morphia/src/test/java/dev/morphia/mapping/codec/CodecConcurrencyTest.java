@@ -0,0 +1,93 @@
+package dev.morphia.mapping.codec;
+
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.TestBase;
+import dev.morphia.mapping.Mapper;
+import dev.morphia.testmodel.Address;
+import dev.morphia.testmodel.Circle;
+import dev.morphia.testmodel.Hotel;
+import dev.morphia.testmodel.Rectangle;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class CodecConcurrencyTest extends TestBase {
+    private static final int THREADS = 32;
+    private static final int ITERATIONS = 200;
+
+    @Test
+    public void coldCaches() throws Exception {
+        Datastore datastore = Morphia.createDatastore(TEST_DB_NAME);
+        datastore.getMapper().map(Hotel.class, Rectangle.class, Circle.class);
+
+        stress(datastore.getMapper());
+    }
+
+    @Test
+    public void warmedUp() throws Exception {
+        Datastore datastore = Morphia.createDatastore(TEST_DB_NAME);
+        datastore.getMapper().map(Hotel.class, Rectangle.class, Circle.class);
+        datastore.getMapper().warmUp();
+
+        stress(datastore.getMapper());
+    }
+
+    private void stress(final Mapper mapper) throws Exception {
+        final ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                final int offset = i;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < ITERATIONS; j++) {
+                        roundTrip(mapper, (offset + j) % 3);
+                        Assert.assertEquals(j, Conversions.convert(String.valueOf(j), Integer.class));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void roundTrip(final Mapper mapper, final int kind) {
+        switch (kind) {
+            case 0:
+                final Hotel hotel = new Hotel();
+                hotel.setId(new ObjectId());
+                hotel.setName("Hotel " + hotel.getId());
+                final Address address = new Address();
+                address.setStreet("street");
+                hotel.setAddress(address);
+                hotel.getTags().add("pool");
+                final Hotel loadedHotel = mapper.fromDocument(Hotel.class, mapper.toDocument(hotel));
+                Assert.assertEquals(hotel.getName(), loadedHotel.getName());
+                Assert.assertEquals(hotel.getTags(), loadedHotel.getTags());
+                Assert.assertEquals("street", loadedHotel.getAddress().getStreet());
+                break;
+            case 1:
+                final Rectangle rectangle = new Rectangle(2, 3);
+                Assert.assertEquals(rectangle, mapper.fromDocument(Rectangle.class, mapper.toDocument(rectangle)));
+                break;
+            default:
+                final Circle circle = new Circle(4);
+                Assert.assertEquals(circle.getRadius(), mapper.fromDocument(Circle.class, mapper.toDocument(circle)).getRadius(), 0.1);
+        }
+    }
+}
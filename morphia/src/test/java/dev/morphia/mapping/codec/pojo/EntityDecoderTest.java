@@ -0,0 +1,109 @@
+package dev.morphia.mapping.codec.pojo;
+
+import dev.morphia.Datastore;
+import dev.morphia.Morphia;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.PostLoad;
+import dev.morphia.mapping.Mapper;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EntityDecoderTest {
+    private Mapper mapper;
+
+    @Before
+    public void mapper() {
+        Datastore datastore = Morphia.createDatastore("morphia_test");
+        mapper = datastore.getMapper();
+        mapper.map(Shape.class, Square.class, LoadedSquare.class);
+    }
+
+    @Test
+    public void subtypeThroughParentCodec() {
+        final Square square = new Square();
+        square.id = new ObjectId();
+        square.name = "square";
+        square.side = 4;
+
+        final Document document = mapper.toDocument(square);
+        Assert.assertEquals(List.of("_id", mapper.getOptions().getDiscriminatorKey()), new ArrayList<>(document.keySet()).subList(0, 2));
+
+        final Shape decoded = decode(document);
+        Assert.assertEquals(Square.class, decoded.getClass());
+        Assert.assertEquals(square.id, decoded.id);
+        Assert.assertEquals("square", decoded.name);
+        Assert.assertEquals(4, ((Square) decoded).side);
+    }
+
+    @Test
+    public void discriminatorNotSecond() {
+        final ObjectId id = new ObjectId();
+        final Document document = new Document("name", "square")
+                                      .append("_id", id)
+                                      .append("side", 3)
+                                      .append(mapper.getOptions().getDiscriminatorKey(),
+                                          mapper.getMappedClass(Square.class).getEntityModel().getDiscriminator());
+
+        final Shape decoded = decode(document);
+        Assert.assertEquals(Square.class, decoded.getClass());
+        Assert.assertEquals(id, decoded.id);
+        Assert.assertEquals("square", decoded.name);
+        Assert.assertEquals(3, ((Square) decoded).side);
+    }
+
+    @Test
+    public void subtypeWithLifecycle() {
+        final LoadedSquare square = new LoadedSquare();
+        square.id = new ObjectId();
+        square.name = "loaded";
+        square.side = 2;
+
+        final Shape decoded = decode(mapper.toDocument(square));
+        Assert.assertEquals(LoadedSquare.class, decoded.getClass());
+        Assert.assertEquals(square.id, decoded.id);
+        Assert.assertEquals("loaded", decoded.name);
+        Assert.assertEquals(2, ((Square) decoded).side);
+        Assert.assertTrue(((LoadedSquare) decoded).loaded);
+    }
+
+    private Shape decode(final Document document) {
+        final BsonDocument bson = document.toBsonDocument(Document.class, mapper.getCodecRegistry());
+        final RawBsonDocument raw = new RawBsonDocument(bson, new BsonDocumentCodec());
+        return mapper.getCodecRegistry()
+                     .get(Shape.class)
+                     .decode(raw.asBsonReader(), DecoderContext.builder().build());
+    }
+
+    @Entity("shapes")
+    private static class Shape {
+        @Id
+        ObjectId id;
+        String name;
+    }
+
+    @Entity("shapes")
+    private static class Square extends Shape {
+        int side;
+    }
+
+    @Entity("shapes")
+    private static class LoadedSquare extends Square {
+        transient boolean loaded;
+
+        @PostLoad
+        void loaded() {
+            loaded = true;
+        }
+    }
+}
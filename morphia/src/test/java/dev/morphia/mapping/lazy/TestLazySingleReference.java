@@ -100,6 +100,34 @@ public class TestLazySingleReference extends ProxyTestBase {
         Assert.assertSame(root.r, root.secondReference);
     }
 
+    @Test
+    public final void testProxyTypeReused() {
+        Assume.assumeTrue(LazyFeatureDependencies.assertProxyClassesPresent());
+
+        RootEntity root = new RootEntity();
+        final ReferencedEntity reference = new ReferencedEntity();
+        final ReferencedEntity second = new ReferencedEntity();
+
+        root.r = reference;
+        root.secondReference = second;
+
+        getDs().save(reference);
+        getDs().save(second);
+        getDs().save(root);
+
+        root = getDs().find(RootEntity.class)
+                      .filter("_id", root.getId())
+                      .first();
+
+        assertIsProxy(root.r);
+        assertIsProxy(root.secondReference);
+        Assert.assertNotSame(root.r, root.secondReference);
+        Assert.assertSame(root.r.getClass(), root.secondReference.getClass());
+        Assert.assertEquals(second.getId(), root.secondReference.getId());
+        assertNotFetched(root.r);
+        assertNotFetched(root.secondReference);
+    }
+
     @Test
     public final void testShortcutInterface() {
         Assume.assumeTrue(LazyFeatureDependencies.assertProxyClassesPresent());
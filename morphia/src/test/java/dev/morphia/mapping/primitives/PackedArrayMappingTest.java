@@ -0,0 +1,106 @@
+package dev.morphia.mapping.primitives;
+
+import dev.morphia.TestBase;
+import dev.morphia.annotations.Entity;
+import dev.morphia.annotations.Id;
+import dev.morphia.annotations.Packed;
+import dev.morphia.mapping.MappingException;
+import org.bson.Document;
+import org.bson.types.Binary;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class PackedArrayMappingTest extends TestBase {
+    @Test
+    public void testMapping() {
+        getMapper().map(Vectors.class);
+        final Vectors ent = new Vectors();
+        ent.features = new double[]{0.25, -1.5, Double.MAX_VALUE, Double.MIN_VALUE};
+        ent.counts = new long[]{Long.MIN_VALUE, 0, Long.MAX_VALUE};
+        ent.offsets = new int[]{3, -4, 5};
+        ent.weights = new float[]{1.5f, 2.25f};
+        ent.plain = new double[]{5.0, 93.5};
+
+        final Document document = getMapper().toDocument(ent);
+        Assert.assertTrue(document.get("features") instanceof Binary);
+        Assert.assertEquals(32, ((Binary) document.get("features")).length());
+        Assert.assertTrue(document.get("plain") instanceof List);
+
+        getDs().save(ent);
+        final Vectors loaded = getDs().find(Vectors.class)
+                                      .filter("_id", ent.id)
+                                      .first();
+
+        Assert.assertArrayEquals(ent.features, loaded.features, 0.0);
+        Assert.assertArrayEquals(ent.counts, loaded.counts);
+        Assert.assertArrayEquals(ent.offsets, loaded.offsets);
+        Assert.assertArrayEquals(ent.weights, loaded.weights, 0.0f);
+        Assert.assertArrayEquals(ent.plain, loaded.plain, 0.0);
+    }
+
+    @Test
+    public void testUnpackedDocuments() {
+        getMapper().map(Vectors.class);
+        final ObjectId id = new ObjectId();
+        getDatabase().getCollection("vectors").insertOne(new Document("_id", id)
+                                                             .append("features", List.of(1.5, 2, 3L))
+                                                             .append("counts", List.of(1, 2L)));
+
+        final Vectors loaded = getDs().find(Vectors.class)
+                                      .filter("_id", id)
+                                      .first();
+        Assert.assertArrayEquals(new double[]{1.5, 2.0, 3.0}, loaded.features, 0.0);
+        Assert.assertArrayEquals(new long[]{1, 2}, loaded.counts);
+    }
+
+    @Test
+    public void testInvalidBinary() {
+        getMapper().map(Vectors.class);
+        final ObjectId truncated = new ObjectId();
+        final ObjectId generic = new ObjectId();
+        getDatabase().getCollection("vectors").insertMany(List.of(
+            new Document("_id", truncated).append("plain", new Binary((byte) 0x80, new byte[12])),
+            new Document("_id", generic).append("plain", new Binary(new byte[16]))));
+
+        for (final ObjectId id : List.of(truncated, generic)) {
+            try {
+                getDs().find(Vectors.class)
+                       .filter("_id", id)
+                       .first();
+                Assert.fail("Should have rejected the binary value");
+            } catch (MappingException ignored) {
+            }
+        }
+    }
+
+    @Test(expected = MappingException.class)
+    public void testUnsupportedType() {
+        getMapper().map(Unsupported.class);
+    }
+
+    @Entity("vectors")
+    private static class Vectors {
+        @Id
+        private ObjectId id;
+        @Packed
+        private double[] features;
+        @Packed
+        private long[] counts;
+        @Packed
+        private int[] offsets;
+        @Packed
+        private float[] weights;
+        private double[] plain;
+    }
+
+    @Entity
+    private static class Unsupported {
+        @Id
+        private ObjectId id;
+        @Packed
+        private String[] names;
+    }
+}
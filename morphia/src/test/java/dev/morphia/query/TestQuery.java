@@ -21,6 +21,7 @@ import dev.morphia.annotations.Entity;
 import dev.morphia.annotations.Id;
 import dev.morphia.annotations.IndexOptions;
 import dev.morphia.annotations.Indexed;
+import dev.morphia.annotations.Packed;
 import dev.morphia.annotations.PrePersist;
 import dev.morphia.annotations.Property;
 import dev.morphia.annotations.Reference;
@@ -29,9 +30,13 @@ import dev.morphia.mapping.ReferenceTest.Complex;
 import dev.morphia.query.QueryForSubtypeTest.User;
 import dev.morphia.query.experimental.filters.Filters;
 import dev.morphia.query.internal.MorphiaCursor;
+import dev.morphia.query.internal.TemplateWriter;
 import dev.morphia.testmodel.Hotel;
 import dev.morphia.testmodel.Rectangle;
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.types.ObjectId;
 import org.junit.Assert;
 import org.junit.Test;
@@ -43,11 +48,14 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.mongodb.client.model.Collation.builder;
 import static dev.morphia.query.Sort.ascending;
@@ -59,6 +67,7 @@ import static dev.morphia.query.experimental.filters.Filters.eq;
 import static dev.morphia.query.experimental.filters.Filters.gt;
 import static dev.morphia.query.experimental.filters.Filters.lt;
 import static dev.morphia.query.experimental.filters.Filters.or;
+import static dev.morphia.query.experimental.filters.Filters.placeholder;
 import static java.util.Arrays.asList;
 import static java.util.Arrays.copyOfRange;
 import static java.util.Collections.singletonList;
@@ -1061,6 +1070,124 @@ public class TestQuery extends TestBase {
         assertFalse(queryPic.isPrePersist());
     }
 
+    @Test
+    public void testParallelDecoding() {
+        final List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            rectangles.add(new Rectangle(i, i));
+        }
+        getDs().save(rectangles);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Rectangle> ordered = getDs().find(Rectangle.class)
+                                                   .execute(new FindOptions()
+                                                                .sort(ascending("height"))
+                                                                .batchSize(20)
+                                                                .decodeExecutor(executor))
+                                                   .toList();
+            assertEquals(250, ordered.size());
+            for (int i = 0; i < ordered.size(); i++) {
+                assertEquals(i, ordered.get(i).getHeight(), 0.0);
+            }
+
+            final List<Rectangle> unordered = getDs().find(Rectangle.class)
+                                                     .execute(new FindOptions()
+                                                                  .decodeExecutor(executor)
+                                                                  .decodeUnordered(true))
+                                                     .toList();
+            assertEquals(250, unordered.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testStream() {
+        final List<Rectangle> rectangles = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            rectangles.add(new Rectangle(i, i));
+        }
+        getDs().save(rectangles);
+
+        try (Stream<Rectangle> stream = getDs().find(Rectangle.class).stream(new FindOptions().batchSize(20))) {
+            assertEquals(250, stream.parallel().mapToDouble(Rectangle::getHeight).count());
+        }
+        try (Stream<Rectangle> stream = getDs().find(Rectangle.class).stream(new FindOptions().sort(ascending("height")).limit(10))) {
+            assertEquals(10, stream.spliterator().estimateSize());
+        }
+        try (Stream<Rectangle> stream = getDs().find(Rectangle.class).stream(new FindOptions().sort(ascending("height")).batchSize(7))) {
+            assertEquals(List.of(0.0, 1.0, 2.0), stream.parallel()
+                                                       .map(Rectangle::getHeight)
+                                                       .limit(3)
+                                                       .collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testPreparedQuery() {
+        getDs().save(asList(new Rectangle(1, 10), new Rectangle(4, 2), new Rectangle(6, 10), new Rectangle(8, 5), new Rectangle(10, 4)));
+
+        final PreparedQuery<Rectangle> prepared = getDs().find(Rectangle.class)
+                                                         .filter(gt("width", placeholder("min")),
+                                                             lt("width", placeholder("max")))
+                                                         .prepare();
+        assertEquals(asList("min", "max"), prepared.getPlaceholders());
+        assertTrue(prepared.bind("min", 1).toString().contains(TemplateWriter.MARKER));
+
+        assertEquals(3, prepared.bind("min", 1).bind("max", 6).count());
+        assertEquals(1, prepared.bind(Map.of("min", 4, "max", 6)).execute().toList().size());
+        assertEquals(getDs().find(Rectangle.class).filter(gt("width", 3), lt("width", 11)).count(),
+            prepared.bind("min", 3).bind("max", 11).count());
+
+        try {
+            prepared.bind("min", 1).execute();
+            fail("Should have complained about the unbound placeholder");
+        } catch (QueryException ignored) {
+        }
+        try {
+            prepared.bind("height", 1);
+            fail("Should have complained about the unknown placeholder");
+        } catch (QueryException ignored) {
+        }
+    }
+
+    @Test
+    public void testSharedPlaceholder() {
+        getMapper().map(PackedVectors.class);
+        final PreparedQuery<PackedVectors> prepared = getDs().find(PackedVectors.class)
+                                                             .filter(eq("plain", placeholder("values")),
+                                                                 eq("features", placeholder("values")))
+                                                             .prepare();
+
+        final BsonDocument query = prepared.bind("values", new double[]{1.5, 2.0})
+                                           .toBsonDocument(BsonDocument.class, getMapper().getCodecRegistry());
+        assertTrue(query.get("plain").isArray());
+        assertTrue(query.get("features").isBinary());
+    }
+
+    @Test
+    public void testToBson() {
+        final MorphiaQuery<Rectangle> query = new MorphiaQuery<>(Rectangle.class, getDs());
+        query.filter(gt("width", 1), lt("width", 10), eq("height", 5));
+        final CodecRegistry registry = getMapper().getCodecRegistry();
+        final String discriminatorKey = getMapper().getMappedClass(Rectangle.class).getEntityModel().getDiscriminatorKey();
+
+        final BsonDocument bson = query.toBson().toBsonDocument(BsonDocument.class, registry);
+        assertEquals(query.toDocument().toBsonDocument(BsonDocument.class, registry), bson);
+        assertEquals(BsonDocument.parse("{$gt: 1, $lt: 10}"), bson.get("w"));
+        assertTrue(bson.containsKey(discriminatorKey));
+
+        final BsonDocument filters = query.encodeQuery(null, false);
+        assertEquals(query.getQueryDocument().toBsonDocument(BsonDocument.class, registry), filters);
+        assertFalse(filters.containsKey(discriminatorKey));
+        assertTrue(bson instanceof RawBsonDocument);
+
+        final MorphiaQuery<Rectangle> split = new MorphiaQuery<>(Rectangle.class, getDs());
+        split.filter(gt("width", 1), eq("height", 5), lt("width", 10));
+        assertEquals(bson, split.toBson().toBsonDocument(BsonDocument.class, registry));
+    }
+
     @Test
     public void testNonexistentFindGet() {
         assertNull(getDs().find(Hotel.class).filter("_id", -1)
@@ -1716,6 +1843,15 @@ public class TestQuery extends TestBase {
 
     }
 
+    @Entity
+    private static class PackedVectors {
+        @Id
+        private ObjectId id;
+        @Packed
+        private double[] features;
+        private double[] plain;
+    }
+
     @Entity
     public static class Photo {
         @Id